@@ -0,0 +1,83 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import si.uom.spi.RegisteredUnits;
+
+/**
+ * The units used as input of benchmarks.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+final class BenchmarkUnits {
+
+	/**
+	 * Units which are prefixed with every {@link MetricPrefix}.
+	 */
+	private static final Unit<?>[] PREFIXED = { SI.METRE, SI.GRAM, SI.SECOND, SI.PASCAL, SI.KILOGRAM_PER_SECOND,
+			NonSI.TONNE, NonSI.ELECTRON_VOLT };
+
+	/**
+	 * Aliases which are only parsed, never produced by formatting.
+	 */
+	static final String[] ALIASES = { "ε" };
+
+	private BenchmarkUnits() {
+	}
+
+	/**
+	 * Returns all registered units of {@link SI} and {@link NonSI} followed by
+	 * prefixed variants. Compound units like
+	 * {@link SI#WATT_PER_STERADIAN_PER_SQUARE_METRE} and labels like
+	 * <code>kB</code>, <code>NA</code> or <code>Np</code> are part of the
+	 * registered units.
+	 *
+	 * @return the benchmark units.
+	 */
+	static Unit<?>[] units() {
+		final List<Unit<?>> units = new ArrayList<>(RegisteredUnits.getUnits());
+		for (Unit<?> unit : PREFIXED) {
+			for (MetricPrefix prefix : MetricPrefix.values()) {
+				units.add(unit.prefix(prefix));
+			}
+		}
+		return units.toArray(new Unit<?>[units.size()]);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import si.uom.SI;
+import si.uom.quantities.DoubleQuantities;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Measures the creation of small integer quantities, as done when resetting
+ * state, by {@link Quantities#getQuantity(Number, Unit)},
+ * {@link DoubleQuantities#getQuantity(double, Unit)} and the shared instances
+ * of {@link DoubleQuantities#valueOf(double, Unit)}.<br>
+ * Each operation creates the values 0 to 15 once. Run with <code>-prof gc</code>
+ * to compare allocation rates.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantityValueBenchmark {
+
+	private static final int VALUES = 16;
+
+	@Param({ "RADIAN_PER_SECOND", "KILOGRAM_PER_CUBIC_METRE" })
+	public String unitName;
+
+	@SuppressWarnings("rawtypes")
+	private Unit unit;
+
+	@Setup
+	public void setUp() {
+		unit = "RADIAN_PER_SECOND".equals(unitName) ? SI.RADIAN_PER_SECOND : SI.KILOGRAM_PER_CUBIC_METRE;
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void indriya(Blackhole blackhole) {
+		for (int i = 0; i < VALUES; i++) {
+			blackhole.consume(Quantities.getQuantity(i, unit));
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void primitive(Blackhole blackhole) {
+		for (int i = 0; i < VALUES; i++) {
+			blackhole.consume(DoubleQuantities.getQuantity(i, unit));
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void shared(Blackhole blackhole) {
+		for (int i = 0; i < VALUES; i++) {
+			blackhole.consume(DoubleQuantities.valueOf(i, unit));
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.format.UnitFormatStyle;
+import tech.units.indriya.format.EBNFUnitFormat;
+import tech.units.indriya.format.SimpleUnitFormat;
+
+/**
+ * Measures parse and format throughput of {@link SimpleUnitFormat} and
+ * {@link EBNFUnitFormat}, and of their {@link CachedUnitFormat} counterparts,
+ * for all registered units of {@link si.uom.SI} and {@link si.uom.NonSI},
+ * prefixed variants and aliases.<br>
+ * Each operation covers all units once. The <code>Contended</code> variants
+ * share one format between several threads. Allocation rates are reported by
+ * running with <code>-prof gc</code>.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnitFormatBenchmark {
+
+	private static final int CONTENDED_THREADS = 4;
+
+	@Param({ "SIMPLE", "EBNF", "CACHED_SIMPLE", "CACHED_EBNF" })
+	public String format;
+
+	private UnitFormat unitFormat;
+
+	private Unit<?>[] units;
+
+	private String[] symbols;
+
+	@Setup
+	public void setUp() {
+		unitFormat = formatOf(format);
+		units = BenchmarkUnits.units();
+		final List<String> parseable = new ArrayList<>();
+		for (Unit<?> unit : units) {
+			addIfParseable(parseable, unitFormat.format(unit));
+		}
+		for (String alias : BenchmarkUnits.ALIASES) {
+			addIfParseable(parseable, alias);
+		}
+		symbols = parseable.toArray(new String[parseable.size()]);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void format(Blackhole blackhole) {
+		formatAll(blackhole);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void parse(Blackhole blackhole) {
+		parseAll(blackhole);
+	}
+
+	@Benchmark
+	@Threads(CONTENDED_THREADS)
+	public void formatContended(Blackhole blackhole) {
+		formatAll(blackhole);
+	}
+
+	@Benchmark
+	@Threads(CONTENDED_THREADS)
+	public void parseContended(Blackhole blackhole) {
+		parseAll(blackhole);
+	}
+
+	private void formatAll(Blackhole blackhole) {
+		for (Unit<?> unit : units) {
+			blackhole.consume(unitFormat.format(unit));
+		}
+	}
+
+	private void parseAll(Blackhole blackhole) {
+		for (String symbol : symbols) {
+			blackhole.consume(unitFormat.parse(symbol));
+		}
+	}
+
+	private void addIfParseable(List<String> symbols, String symbol) {
+		try {
+			unitFormat.parse(symbol);
+			symbols.add(symbol);
+		} catch (RuntimeException e) {
+			// not supported by this format, e.g. labels of another format
+		}
+	}
+
+	private static UnitFormat formatOf(String name) {
+		switch (name) {
+		case "EBNF":
+			return EBNFUnitFormat.getInstance();
+		case "CACHED_SIMPLE":
+			return CachedUnitFormat.getInstance(UnitFormatStyle.SIMPLE);
+		case "CACHED_EBNF":
+			return CachedUnitFormat.getInstance(UnitFormatStyle.EBNF);
+		default:
+			return SimpleUnitFormat.getInstance();
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import si.uom.SI;
+import si.uom.spi.RegisteredUnits;
+import si.uom.spi.UnitMap;
+
+/**
+ * Measures map workloads keyed by units, such as per-unit converters or
+ * statistics, comparing a {@link HashMap} with a {@link UnitMap}.<br>
+ * Each operation looks up every registered unit once, then counts it. The
+ * mixed workload also looks up prefixed and product units, using instances
+ * which are equal to, but not the same as the keys.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnitMapBenchmark {
+
+	private static final Unit<?>[] FACTORS = { SI.METRE, SI.SECOND, SI.KILOGRAM, SI.AMPERE };
+
+	private List<Unit<?>> units;
+
+	private Map<Unit<?>, int[]> hashMap;
+
+	private Map<Unit<?>, int[]> unitMap;
+
+	private List<Unit<?>> mixedUnits;
+
+	private Map<Unit<?>, int[]> mixedHashMap;
+
+	private Map<Unit<?>, int[]> mixedUnitMap;
+
+	@Setup
+	public void setUp() {
+		units = new ArrayList<>(RegisteredUnits.getUnits());
+		hashMap = new HashMap<>();
+		unitMap = new UnitMap<>();
+		for (Unit<?> unit : units) {
+			hashMap.put(unit, new int[1]);
+			unitMap.put(unit, new int[1]);
+		}
+		mixedUnits = mixedUnits();
+		mixedHashMap = new HashMap<>();
+		mixedUnitMap = new UnitMap<>();
+		for (Unit<?> unit : mixedUnits()) {
+			mixedHashMap.put(unit, new int[1]);
+			mixedUnitMap.put(unit, new int[1]);
+		}
+	}
+
+	/**
+	 * Returns the benchmark units, with new instances of the prefixed units,
+	 * followed by new products of the registered units with base units.
+	 */
+	private static List<Unit<?>> mixedUnits() {
+		final List<Unit<?>> mixed = new ArrayList<>(Arrays.asList(BenchmarkUnits.units()));
+		for (Unit<?> factor : FACTORS) {
+			for (Unit<?> unit : RegisteredUnits.getUnits()) {
+				mixed.add(unit.multiply(factor));
+			}
+		}
+		return mixed;
+	}
+
+	@Benchmark
+	public void hashMapGet(Blackhole blackhole) {
+		for (Unit<?> unit : units) {
+			blackhole.consume(hashMap.get(unit));
+		}
+	}
+
+	@Benchmark
+	public void unitMapGet(Blackhole blackhole) {
+		for (Unit<?> unit : units) {
+			blackhole.consume(unitMap.get(unit));
+		}
+	}
+
+	@Benchmark
+	public void hashMapCount() {
+		for (Unit<?> unit : units) {
+			hashMap.get(unit)[0]++;
+		}
+	}
+
+	@Benchmark
+	public void unitMapCount() {
+		for (Unit<?> unit : units) {
+			unitMap.get(unit)[0]++;
+		}
+	}
+
+	@Benchmark
+	public Map<Unit<?>, int[]> hashMapBuild() {
+		final Map<Unit<?>, int[]> map = new HashMap<>();
+		for (Unit<?> unit : units) {
+			map.put(unit, new int[1]);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public Map<Unit<?>, int[]> unitMapBuild() {
+		final Map<Unit<?>, int[]> map = new UnitMap<>();
+		for (Unit<?> unit : units) {
+			map.put(unit, new int[1]);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public void hashMapMixedCount() {
+		for (Unit<?> unit : mixedUnits) {
+			mixedHashMap.get(unit)[0]++;
+		}
+	}
+
+	@Benchmark
+	public void unitMapMixedCount() {
+		for (Unit<?> unit : mixedUnits) {
+			mixedUnitMap.get(unit)[0]++;
+		}
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom;
+
+import static si.uom.SI.AVOGADRO_CONSTANT_VALUE;
+import static si.uom.SI.BOLTZMANN_CONSTANT_VALUE;
+import static si.uom.SI.ELEMENTARY_CHARGE_VALUE;
+import static si.uom.SI.PLANCK_CONSTANT_VALUE;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Unit;
+
+/**
+ * Provides folded conversion factors between the units of the fundamental
+ * constants defined in {@link SI} and their system units.
+ * <p>
+ * Those units are built by multiplying a derived unit by the value of the
+ * constant, so a converter obtained from the unit stacks several conversion
+ * steps. Each {@link Conversion} holds the value the unit is defined with as a
+ * {@link BigDecimal}, and as correctly rounded <code>double</code> values in
+ * both directions, so converting costs a single multiplication.
+ * </p>
+ * <p>
+ * Only {@link #C}, {@link #DELTA_V_CS}, {@link #KCD} and
+ * {@link #PLANCK_CONSTANT} are defined by the exact values of the 2019 SI.
+ * The units of {@link #AVOGADRO_CONSTANT}, {@link #BOLTZMANN_CONSTANT} and
+ * {@link #ELEMENTARY_CHARGE} still use older measured values, and so do their
+ * conversions, to stay consistent with the converters of the units.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class ConstantConversions {
+
+	/**
+	 * The conversion between the unit of a fundamental constant and its system
+	 * unit.
+	 */
+	public static final class Conversion {
+		private final Unit<?> unit;
+		private final BigDecimal decimalFactor;
+		private final double factor;
+		private final double inverseFactor;
+
+		private Conversion(Unit<?> unit, BigDecimal decimalFactor) {
+			this.unit = unit;
+			this.decimalFactor = decimalFactor;
+			this.factor = decimalFactor.doubleValue();
+			this.inverseFactor = BigDecimal.ONE.divide(decimalFactor, MathContext.DECIMAL128).doubleValue();
+		}
+
+		/**
+		 * Returns the unit of the constant.
+		 *
+		 * @return the unit.
+		 */
+		public Unit<?> getUnit() {
+			return unit;
+		}
+
+		/**
+		 * Returns the system unit of the constant.
+		 *
+		 * @return <code>getUnit().getSystemUnit()</code>.
+		 */
+		public Unit<?> getSystemUnit() {
+			return unit.getSystemUnit();
+		}
+
+		/**
+		 * Returns the factor from the unit to its system unit as a decimal.
+		 *
+		 * @return the value the unit of the constant is defined with.
+		 */
+		public BigDecimal getDecimalFactor() {
+			return decimalFactor;
+		}
+
+		/**
+		 * Returns the factor from the unit to its system unit.
+		 *
+		 * @return the decimal factor rounded to the nearest <code>double</code>.
+		 */
+		public double getFactor() {
+			return factor;
+		}
+
+		/**
+		 * Returns the factor from the system unit to the unit.
+		 *
+		 * @return the reciprocal of the decimal factor rounded to the nearest
+		 *         <code>double</code>.
+		 */
+		public double getInverseFactor() {
+			return inverseFactor;
+		}
+
+		/**
+		 * Converts a value from the unit to its system unit.
+		 *
+		 * @param value the value in the unit of the constant.
+		 * @return the value in the system unit.
+		 */
+		public double toSystemUnit(double value) {
+			return value * factor;
+		}
+
+		/**
+		 * Converts a value from the system unit to the unit.
+		 *
+		 * @param value the value in the system unit.
+		 * @return the value in the unit of the constant.
+		 */
+		public double fromSystemUnit(double value) {
+			return value * inverseFactor;
+		}
+
+		/**
+		 * Converts a value from the unit to its system unit, multiplying by the
+		 * decimal factor without rounding.
+		 *
+		 * @param value the value in the unit of the constant.
+		 * @return the value in the system unit.
+		 */
+		public BigDecimal toSystemUnit(BigDecimal value) {
+			return value.multiply(decimalFactor);
+		}
+
+		/**
+		 * Converts a value from the system unit to the unit.
+		 *
+		 * @param value       the value in the system unit.
+		 * @param mathContext the precision and rounding of the quotient.
+		 * @return the value in the unit of the constant.
+		 */
+		public BigDecimal fromSystemUnit(BigDecimal value, MathContext mathContext) {
+			return value.divide(decimalFactor, mathContext);
+		}
+
+		@Override
+		public String toString() {
+			return unit + " = " + decimalFactor.toString() + " " + getSystemUnit();
+		}
+	}
+
+	/**
+	 * The conversion of {@link SI#AVOGADRO_CONSTANT}.
+	 */
+	public static final Conversion AVOGADRO_CONSTANT = new Conversion(SI.AVOGADRO_CONSTANT,
+			BigDecimal.valueOf(AVOGADRO_CONSTANT_VALUE));
+
+	/**
+	 * The conversion of {@link SI#BOLTZMANN_CONSTANT}.
+	 */
+	public static final Conversion BOLTZMANN_CONSTANT = new Conversion(SI.BOLTZMANN_CONSTANT,
+			BigDecimal.valueOf(BOLTZMANN_CONSTANT_VALUE));
+
+	/**
+	 * The conversion of {@link SI#C}.
+	 */
+	public static final Conversion C = new Conversion(SI.C, BigDecimal.valueOf(299792458L));
+
+	/**
+	 * The conversion of {@link SI#DELTA_V_CS}.
+	 */
+	public static final Conversion DELTA_V_CS = new Conversion(SI.DELTA_V_CS, BigDecimal.valueOf(9192631770L));
+
+	/**
+	 * The conversion of {@link SI#ELEMENTARY_CHARGE}.
+	 */
+	public static final Conversion ELEMENTARY_CHARGE = new Conversion(SI.ELEMENTARY_CHARGE,
+			BigDecimal.valueOf(ELEMENTARY_CHARGE_VALUE));
+
+	/**
+	 * The conversion of {@link SI#KCD}.
+	 */
+	public static final Conversion KCD = new Conversion(SI.KCD, BigDecimal.valueOf(683L));
+
+	/**
+	 * The conversion of {@link SI#PLANCK_CONSTANT}.
+	 */
+	public static final Conversion PLANCK_CONSTANT = new Conversion(SI.PLANCK_CONSTANT,
+			BigDecimal.valueOf(PLANCK_CONSTANT_VALUE));
+
+	private static final List<Conversion> CONVERSIONS = Collections.unmodifiableList(Arrays.asList(AVOGADRO_CONSTANT,
+			BOLTZMANN_CONSTANT, C, DELTA_V_CS, ELEMENTARY_CHARGE, KCD, PLANCK_CONSTANT));
+
+	private static final Map<Unit<?>, Conversion> BY_UNIT = new IdentityHashMap<>();
+
+	static {
+		for (Conversion conversion : CONVERSIONS) {
+			BY_UNIT.put(conversion.unit, conversion);
+		}
+	}
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private ConstantConversions() {
+	}
+
+	/**
+	 * Returns the conversions of all fundamental constants.
+	 *
+	 * @return the unmodifiable list of conversions.
+	 */
+	public static List<Conversion> getConversions() {
+		return CONVERSIONS;
+	}
+
+	/**
+	 * Returns the conversion of the specified unit.
+	 *
+	 * @param unit the unit.
+	 * @return the conversion if <code>unit</code> is (or is equal to) the unit of
+	 *         a fundamental constant, <code>null</code> otherwise.
+	 */
+	public static Conversion get(Unit<?> unit) {
+		final Conversion conversion = BY_UNIT.get(unit);
+		if (conversion != null || unit == null) {
+			return conversion;
+		}
+		for (Conversion candidate : CONVERSIONS) {
+			if (candidate.unit.equals(unit)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import java.io.IOException;
+import java.text.ParsePosition;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+
+import si.uom.spi.RegisteredUnits;
+import tech.units.indriya.format.SimpleUnitFormat;
+
+/**
+ * A {@link UnitFormat} which renders every registered unit of
+ * {@link si.uom.SI} and {@link si.uom.NonSI} only once per
+ * {@link UnitFormatStyle}, including ASCII-safe and full Unicode renderings.<br>
+ * Units which are not registered, e.g. prefixed or ad-hoc product units, are
+ * formatted by the underlying format each time.
+ * <p>
+ * Labels applied through this format refresh the cached representations of
+ * every style sharing its underlying format. Labels applied directly on the
+ * underlying format require a call to {@link #refresh()}.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class CachedUnitFormat implements UnitFormat {
+
+	private static final CachedUnitFormat[] INSTANCES;
+
+	static {
+		final UnitFormatStyle[] styles = UnitFormatStyle.values();
+		INSTANCES = new CachedUnitFormat[styles.length];
+		for (UnitFormatStyle style : styles) {
+			INSTANCES[style.ordinal()] = new CachedUnitFormat(style);
+		}
+	}
+
+	private final UnitFormatStyle style;
+
+	private final UnitFormat delegate;
+
+	private volatile Tables tables;
+
+	private CachedUnitFormat(UnitFormatStyle style) {
+		this.style = style;
+		this.delegate = style.getUnitFormat();
+		if (style == UnitFormatStyle.ASCII) {
+			aliasTransliterations();
+		}
+		this.tables = new Tables(style, delegate);
+	}
+
+	/**
+	 * Returns the cached format for the {@link UnitFormatStyle#SIMPLE} style.
+	 *
+	 * @return the cached simple unit format.
+	 */
+	public static CachedUnitFormat getInstance() {
+		return getInstance(UnitFormatStyle.SIMPLE);
+	}
+
+	/**
+	 * Returns the cached format for the specified style.
+	 *
+	 * @param style the format style.
+	 * @return the cached unit format for this style.
+	 */
+	public static CachedUnitFormat getInstance(UnitFormatStyle style) {
+		return INSTANCES[style.ordinal()];
+	}
+
+	/**
+	 * Returns the style of this format.
+	 *
+	 * @return the format style.
+	 */
+	public UnitFormatStyle getStyle() {
+		return style;
+	}
+
+	@Override
+	public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+		final String text = tables.lookup(unit);
+		if (text != null) {
+			return appendable.append(text);
+		}
+		if (style == UnitFormatStyle.ASCII || style == UnitFormatStyle.UNICODE) {
+			return appendable.append(style.render(delegate.format(unit)));
+		}
+		return delegate.format(unit, appendable);
+	}
+
+	@Override
+	public String format(Unit<?> unit) {
+		final String text = tables.lookup(unit);
+		return text != null ? text : style.render(delegate.format(unit));
+	}
+
+	/**
+	 * Attaches a label to the specified unit in the underlying format, and
+	 * updates the cached representations of the unit in all cached formats
+	 * sharing that underlying format.
+	 *
+	 * @param unit  the unit being labeled.
+	 * @param label the new label for this unit.
+	 */
+	@Override
+	public void label(Unit<?> unit, String label) {
+		delegate.label(unit, label);
+		for (CachedUnitFormat instance : INSTANCES) {
+			if (instance.delegate == delegate) {
+				instance.update(unit);
+			}
+		}
+	}
+
+	@Override
+	public boolean isLocaleSensitive() {
+		return delegate.isLocaleSensitive();
+	}
+
+	@Override
+	public Unit<?> parse(CharSequence csq, ParsePosition pos)
+			throws IllegalArgumentException, MeasurementParseException {
+		return delegate.parse(csq, pos);
+	}
+
+	@Override
+	public Unit<?> parse(CharSequence csq) throws MeasurementParseException {
+		final Unit<?> unit = tables.parsed.get(csq.toString());
+		return unit != null ? unit : delegate.parse(csq);
+	}
+
+	/**
+	 * Recomputes all cached representations, e.g. after labels were changed on the
+	 * underlying format. Synchronized with concurrent updates by
+	 * {@link #label(Unit, String)}, so that none of them is lost.
+	 */
+	public synchronized void refresh() {
+		tables = new Tables(style, delegate);
+	}
+
+	/**
+	 * Registers the transliterated symbols of registered units, e.g.
+	 * <code>h_P</code> for <code>ℎ</code>, as aliases of the underlying format,
+	 * so that they are also parsed within compound units. Symbols the underlying
+	 * format already parses are left alone.
+	 */
+	private void aliasTransliterations() {
+		if (!(delegate instanceof SimpleUnitFormat)) {
+			return;
+		}
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			final String text = Tables.render(UnitFormatStyle.SIMPLE, delegate, unit);
+			if (text == null) {
+				continue;
+			}
+			final String ascii = style.render(text);
+			if (!ascii.equals(text) && !isParsed(ascii)) {
+				try {
+					((SimpleUnitFormat) delegate).alias(unit, ascii);
+				} catch (IllegalArgumentException e) {
+					// not a valid identifier of the underlying format
+				}
+			}
+		}
+	}
+
+	private boolean isParsed(String text) {
+		try {
+			return delegate.parse(text) != null;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private synchronized void update(Unit<?> unit) {
+		tables = tables.update(style, delegate, unit);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + style + "]";
+	}
+
+	/**
+	 * Immutable lookup tables, replaced as a whole on refresh.
+	 */
+	private static final class Tables {
+		private final Map<Unit<?>, String> identities;
+		private final Map<Unit<?>, String> equalities;
+		private final Map<String, Unit<?>> parsed;
+
+		private Tables(UnitFormatStyle style, UnitFormat format) {
+			identities = new IdentityHashMap<>();
+			equalities = new HashMap<>();
+			parsed = new HashMap<>();
+			for (Unit<?> unit : RegisteredUnits.getUnits()) {
+				final String text = render(style, format, unit);
+				if (text != null) {
+					identities.put(unit, text);
+					equalities.put(unit, text);
+					addParsed(text, unit, format);
+				}
+			}
+		}
+
+		private Tables(Tables tables) {
+			identities = new IdentityHashMap<>(tables.identities);
+			equalities = new HashMap<>(tables.equalities);
+			parsed = new HashMap<>(tables.parsed);
+		}
+
+		/**
+		 * Returns a copy of these tables with the representation of one unit
+		 * recomputed.
+		 */
+		private Tables update(UnitFormatStyle style, UnitFormat format, Unit<?> unit) {
+			final Tables tables = new Tables(this);
+			final int id = RegisteredUnits.indexOf(unit);
+			final Unit<?> registered = id >= 0 ? RegisteredUnits.get(id) : unit;
+			final String previous = lookup(registered);
+			if (previous != null && tables.parsed.get(previous) == registered) {
+				tables.parsed.remove(previous);
+			}
+			final String text = render(style, format, unit);
+			if (text != null) {
+				if (id >= 0) {
+					tables.identities.put(registered, text);
+					tables.equalities.put(registered, text);
+					tables.parsed.remove(text);
+					tables.addParsed(text, registered, format);
+				} else {
+					// the label now denotes a unit which is not cached
+					tables.parsed.remove(text);
+				}
+			}
+			return tables;
+		}
+
+		private static String render(UnitFormatStyle style, UnitFormat format, Unit<?> unit) {
+			try {
+				return style.render(format.format(unit));
+			} catch (RuntimeException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * Maps a rendered string back to its unit, so that every style parses its
+		 * own output, even if transliterated. If several units render alike, the
+		 * one the underlying format resolves the string to wins.
+		 */
+		private void addParsed(String text, Unit<?> unit, UnitFormat format) {
+			final Unit<?> existing = parsed.putIfAbsent(text, unit);
+			if (existing != null && existing != unit) {
+				try {
+					if (unit.equals(format.parse(text))) {
+						parsed.put(text, unit);
+					}
+				} catch (RuntimeException e) {
+					// not parseable by the underlying format, the first unit wins
+				}
+			}
+		}
+
+		private String lookup(Unit<?> unit) {
+			final String text = identities.get(unit);
+			return text != null ? text : equalities.get(unit);
+		}
+	}
+}
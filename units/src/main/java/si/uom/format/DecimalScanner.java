@@ -0,0 +1,165 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+/**
+ * Scans decimal numbers from character sequences without creating intermediate
+ * strings for the common cases.<br>
+ * Numbers with at most 15 significant digits and a decimal exponent of at most
+ * 22 are converted exactly with a single multiplication or division, other
+ * numbers are handed to {@link Double#parseDouble(String)}.
+ * <p>
+ * Instances are mutable and hold the result of the last scan, they are not
+ * thread-safe.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+final class DecimalScanner {
+
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private static final int MAX_EXACT_DIGITS = 15;
+
+	/**
+	 * The value of the last number scanned.
+	 */
+	double value;
+
+	/**
+	 * The index following the last number scanned.
+	 */
+	int end;
+
+	/**
+	 * Scans a number starting exactly at <code>start</code>.
+	 *
+	 * @param csq   the characters to scan.
+	 * @param start the index of the first character of the number.
+	 * @param limit the index after the last character which may be scanned.
+	 * @return <code>true</code> if a number was found, in which case
+	 *         {@link #value} and {@link #end} are set; <code>false</code>
+	 *         otherwise.
+	 */
+	boolean scan(CharSequence csq, int start, int limit) {
+		int i = start;
+		boolean negative = false;
+		if (i < limit) {
+			final char c = csq.charAt(i);
+			if (c == '-' || c == '+') {
+				negative = c == '-';
+				i++;
+			}
+		}
+		long mantissa = 0;
+		int significant = 0;
+		int exponent = 0;
+		int digits = 0;
+		boolean exact = true;
+		for (; i < limit; i++) {
+			final int d = csq.charAt(i) - '0';
+			if (d < 0 || d > 9) {
+				break;
+			}
+			digits++;
+			if (mantissa != 0 || d != 0) {
+				if (significant < MAX_EXACT_DIGITS) {
+					mantissa = mantissa * 10 + d;
+					significant++;
+				} else {
+					exact = false;
+				}
+			}
+		}
+		if (i < limit && csq.charAt(i) == '.') {
+			i++;
+			for (; i < limit; i++) {
+				final int d = csq.charAt(i) - '0';
+				if (d < 0 || d > 9) {
+					break;
+				}
+				digits++;
+				if (mantissa != 0 || d != 0) {
+					if (significant < MAX_EXACT_DIGITS) {
+						mantissa = mantissa * 10 + d;
+						significant++;
+						exponent--;
+					} else {
+						exact = false;
+					}
+				} else {
+					exponent--;
+				}
+			}
+		}
+		if (digits == 0) {
+			return false;
+		}
+		if (i + 1 < limit && (csq.charAt(i) == 'e' || csq.charAt(i) == 'E')) {
+			int j = i + 1;
+			boolean negativeExponent = false;
+			final char s = csq.charAt(j);
+			if (s == '-' || s == '+') {
+				negativeExponent = s == '-';
+				j++;
+			}
+			final int digitsStart = j;
+			int e = 0;
+			for (; j < limit; j++) {
+				final int d = csq.charAt(j) - '0';
+				if (d < 0 || d > 9) {
+					break;
+				}
+				if (e < 100000) {
+					e = e * 10 + d;
+				}
+			}
+			// an exponent needs digits, "3 eV" or "2e" leave the 'e' unscanned
+			if (j > digitsStart) {
+				exponent += negativeExponent ? -e : e;
+				i = j;
+			}
+		}
+		end = i;
+		if (exact && mantissa == 0) {
+			value = negative ? -0d : 0d;
+		} else if (exact && exponent >= -22 && exponent <= 22) {
+			final double m = mantissa;
+			final double v = exponent < 0 ? m / POWERS_OF_TEN[-exponent] : m * POWERS_OF_TEN[exponent];
+			value = negative ? -v : v;
+		} else {
+			value = Double.parseDouble(csq.subSequence(start, end).toString());
+		}
+		return true;
+	}
+}
@@ -0,0 +1,522 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+
+import si.uom.function.DoubleConverter;
+
+/**
+ * Reads delimited records (CSV, TSV) of numeric values and normalizes each
+ * column to the system unit of its {@link si.uom.SI} or {@link si.uom.NonSI}
+ * unit.
+ * <p>
+ * The unit of a column is either given by its header, e.g.
+ * <code>distance[nmi]</code> or <code>mass[t]</code>, set explicitly with
+ * {@link #setUnit(int, Unit)}, or taken from a unit suffix of each value, e.g.
+ * <code>12.5 nmi</code>. Units are resolved once per column (and per distinct
+ * suffix), values are converted as primitive <code>double</code> values without
+ * creating any quantity.
+ * </p>
+ * <p>
+ * Empty or non-numeric values are read as {@link Double#NaN}, their raw text is
+ * available through {@link #getText(int)}. Values without any unit are read
+ * unchanged.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public class DelimitedQuantityReader implements Closeable {
+
+	/**
+	 * The comma delimiter for CSV records.
+	 */
+	public static final char CSV = ',';
+
+	/**
+	 * The tab delimiter for TSV records.
+	 */
+	public static final char TSV = '\t';
+
+	private static final char QUOTE = '"';
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+
+	private final char delimiter;
+
+	private final UnitFormat format;
+
+	private final DecimalScanner scanner = new DecimalScanner();
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	private int position;
+
+	private int limit;
+
+	private boolean eof;
+
+	private char[] record = new char[256];
+
+	private CharBuffer recordView = CharBuffer.wrap(record);
+
+	private int[] fieldStarts = new int[16];
+
+	private int[] fieldEnds = new int[16];
+
+	private int fieldCount;
+
+	private long recordNumber;
+
+	private Column[] columns = new Column[0];
+
+	/**
+	 * Creates a reader of records separated by the specified delimiter.
+	 *
+	 * @param reader    the source of records.
+	 * @param delimiter the field delimiter, e.g. {@link #CSV} or {@link #TSV}.
+	 */
+	public DelimitedQuantityReader(Reader reader, char delimiter) {
+		this(reader, delimiter, CachedUnitFormat.getInstance());
+	}
+
+	/**
+	 * Creates a reader of records separated by the specified delimiter.
+	 *
+	 * @param in        the source of records.
+	 * @param charset   the character set of the source.
+	 * @param delimiter the field delimiter, e.g. {@link #CSV} or {@link #TSV}.
+	 */
+	public DelimitedQuantityReader(InputStream in, Charset charset, char delimiter) {
+		this(new InputStreamReader(in, charset), delimiter);
+	}
+
+	/**
+	 * Creates a reader of records separated by the specified delimiter, resolving
+	 * unit symbols with the specified format.
+	 *
+	 * @param reader    the source of records.
+	 * @param delimiter the field delimiter, e.g. {@link #CSV} or {@link #TSV}.
+	 * @param format    the format used to parse unit symbols.
+	 */
+	public DelimitedQuantityReader(Reader reader, char delimiter, UnitFormat format) {
+		this.reader = reader;
+		this.delimiter = delimiter;
+		this.format = format;
+	}
+
+	/**
+	 * Reads the next record as header. Each field is a column name optionally
+	 * followed by a unit in square brackets, e.g. <code>distance[nmi]</code>.
+	 *
+	 * @return the number of columns.
+	 * @throws IOException               if an I/O error occurs.
+	 * @throws MeasurementParseException if a unit cannot be parsed.
+	 */
+	public int readHeader() throws IOException {
+		if (!readRecord()) {
+			return 0;
+		}
+		ensureColumns(fieldCount);
+		for (int i = 0; i < fieldCount; i++) {
+			final String spec = new String(record, fieldStarts[i], fieldEnds[i] - fieldStarts[i]).trim();
+			final int open = spec.lastIndexOf('[');
+			if (open >= 0 && spec.endsWith("]")) {
+				columns[i].name = spec.substring(0, open).trim();
+				final String symbol = spec.substring(open + 1, spec.length() - 1).trim();
+				if (!symbol.isEmpty()) {
+					columns[i].setUnit(format.parse(symbol));
+				}
+			} else {
+				columns[i].name = spec;
+			}
+		}
+		return fieldCount;
+	}
+
+	/**
+	 * Sets the unit of a column, overriding its header.
+	 *
+	 * @param column the column index.
+	 * @param unit   the unit of values in this column.
+	 */
+	public void setUnit(int column, Unit<?> unit) {
+		ensureColumns(column + 1);
+		columns[column].setUnit(unit);
+	}
+
+	/**
+	 * Returns the number of columns known so far.
+	 *
+	 * @return the number of columns.
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns the name of a column as given by the header.
+	 *
+	 * @param column the column index.
+	 * @return the column name or <code>null</code> if there was no header.
+	 */
+	public String getColumnName(int column) {
+		return columns[column].name;
+	}
+
+	/**
+	 * Returns the unit of a column in the current record: the unit suffix of its
+	 * value if {@link #getValue(int)} found one, otherwise the unit given by the
+	 * header or set explicitly.
+	 *
+	 * @param column the column index.
+	 * @return the source unit or <code>null</code> if the column has no unit.
+	 */
+	public Unit<?> getUnit(int column) {
+		final Column c = columns[column];
+		return c.rowNumber == recordNumber && c.rowUnit != null ? c.rowUnit : c.unit;
+	}
+
+	/**
+	 * Returns the system unit values of a column are normalized to.
+	 *
+	 * @param column the column index.
+	 * @return the system unit or <code>null</code> if the column has no unit.
+	 */
+	public Unit<?> getSystemUnit(int column) {
+		final Unit<?> unit = getUnit(column);
+		return unit != null ? unit.getSystemUnit() : null;
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * @return <code>true</code> if a record was read; <code>false</code> at the
+	 *         end of input.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public boolean next() throws IOException {
+		if (!readRecord()) {
+			return false;
+		}
+		ensureColumns(fieldCount);
+		return true;
+	}
+
+	/**
+	 * Returns the number of fields of the current record.
+	 *
+	 * @return the number of fields.
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Returns the number of records read so far, including the header.
+	 *
+	 * @return the record number.
+	 */
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * Returns the value of a field of the current record in the system unit of its
+	 * column.
+	 *
+	 * @param column the column index.
+	 * @return the normalized value or {@link Double#NaN} if the field is missing,
+	 *         empty or not a number.
+	 * @throws MeasurementParseException if a unit suffix cannot be parsed or is
+	 *                                   not compatible with the column unit.
+	 */
+	public double getValue(int column) {
+		if (column >= fieldCount) {
+			return Double.NaN;
+		}
+		int start = fieldStarts[column];
+		final int end = fieldEnds[column];
+		while (start < end && Character.isWhitespace(record[start])) {
+			start++;
+		}
+		if (!scanner.scan(recordView, start, end)) {
+			return Double.NaN;
+		}
+		int suffix = scanner.end;
+		while (suffix < end && Character.isWhitespace(record[suffix])) {
+			suffix++;
+		}
+		int suffixEnd = end;
+		while (suffixEnd > suffix && Character.isWhitespace(record[suffixEnd - 1])) {
+			suffixEnd--;
+		}
+		return columns[column].converterFor(record, suffix, suffixEnd).convert(scanner.value);
+	}
+
+	/**
+	 * Returns the raw text of a field of the current record.
+	 *
+	 * @param column the column index.
+	 * @return the field text or <code>null</code> if the field is missing.
+	 */
+	public String getText(int column) {
+		if (column >= fieldCount) {
+			return null;
+		}
+		return new String(record, fieldStarts[column], fieldEnds[column] - fieldStarts[column]);
+	}
+
+	/**
+	 * Reads up to <code>maxRows</code> records into column arrays, in the system
+	 * unit of each column.
+	 *
+	 * @param values  the column arrays to fill, <code>values[column][row]</code>.
+	 *                Columns with a <code>null</code> array are skipped.
+	 * @param offset  the first row index to fill.
+	 * @param maxRows the maximum number of records to read.
+	 * @return the number of records read, <code>0</code> at the end of input.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public int read(double[][] values, int offset, int maxRows) throws IOException {
+		int rows = 0;
+		while (rows < maxRows && next()) {
+			for (int c = 0; c < values.length; c++) {
+				if (values[c] != null) {
+					values[c][offset + rows] = getValue(c);
+				}
+			}
+			rows++;
+		}
+		return rows;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private void ensureColumns(int count) {
+		if (count > columns.length) {
+			final int old = columns.length;
+			columns = Arrays.copyOf(columns, count);
+			for (int i = old; i < count; i++) {
+				columns[i] = new Column();
+			}
+		}
+	}
+
+	/**
+	 * Reads the next non-empty record into {@link #record}.
+	 */
+	private boolean readRecord() throws IOException {
+		int length = 0;
+		fieldCount = 0;
+		boolean quoted = false;
+		boolean any = false;
+		int fieldStart = 0;
+		while (true) {
+			if (position == limit && !fill()) {
+				if (!any) {
+					return false;
+				}
+				break;
+			}
+			final char c = buffer[position++];
+			if (quoted) {
+				if (c == QUOTE) {
+					if (position == limit && !fill()) {
+						quoted = false;
+						continue;
+					}
+					if (buffer[position] == QUOTE) {
+						position++;
+						length = append(length, QUOTE);
+					} else {
+						quoted = false;
+					}
+				} else {
+					length = append(length, c);
+				}
+				continue;
+			}
+			if (c == '\n' || c == '\r') {
+				if (c == '\r' && (position < limit || fill()) && buffer[position] == '\n') {
+					position++;
+				}
+				if (!any) {
+					// skips empty lines
+					continue;
+				}
+				break;
+			}
+			any = true;
+			if (c == delimiter) {
+				addField(fieldStart, length);
+				fieldStart = length;
+			} else if (c == QUOTE && length == fieldStart) {
+				quoted = true;
+			} else {
+				length = append(length, c);
+			}
+		}
+		addField(fieldStart, length);
+		recordNumber++;
+		return true;
+	}
+
+	private int append(int length, char c) {
+		if (length == record.length) {
+			record = Arrays.copyOf(record, length * 2);
+			recordView = CharBuffer.wrap(record);
+		}
+		record[length] = c;
+		return length + 1;
+	}
+
+	private void addField(int start, int end) {
+		if (fieldCount == fieldStarts.length) {
+			fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+			fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+		}
+		fieldStarts[fieldCount] = start;
+		fieldEnds[fieldCount] = end;
+		fieldCount++;
+	}
+
+	private boolean fill() throws IOException {
+		if (eof) {
+			return false;
+		}
+		final int n = reader.read(buffer, 0, buffer.length);
+		if (n <= 0) {
+			eof = n < 0;
+			position = 0;
+			limit = 0;
+			return !eof && fill();
+		}
+		position = 0;
+		limit = n;
+		return true;
+	}
+
+	/**
+	 * A unit suffix and its converter to the system unit.
+	 */
+	private static final class Suffix {
+		private final Unit<?> unit;
+		private final DoubleConverter converter;
+
+		private Suffix(Unit<?> unit) {
+			this.unit = unit;
+			this.converter = DoubleConverter.toSystemUnit(unit);
+		}
+	}
+
+	/**
+	 * Holds the unit resolution of one column.
+	 */
+	private final class Column {
+		private String name;
+		private Unit<?> unit;
+		private DoubleConverter converter = DoubleConverter.IDENTITY;
+		private char[] lastSuffix = new char[0];
+		private Suffix last;
+		private Map<String, Suffix> suffixes;
+		/** The unit of the value in the record numbered <code>rowNumber</code>. */
+		private Unit<?> rowUnit;
+		private long rowNumber = -1;
+
+		private void setUnit(Unit<?> unit) {
+			this.unit = unit;
+			this.converter = DoubleConverter.toSystemUnit(unit);
+		}
+
+		private DoubleConverter converterFor(char[] chars, int start, int end) {
+			rowNumber = recordNumber;
+			if (start == end) {
+				rowUnit = unit;
+				return converter;
+			}
+			if (last == null || !sameSuffix(chars, start, end)) {
+				final String symbol = new String(chars, start, end - start);
+				if (suffixes == null) {
+					suffixes = new HashMap<>();
+				}
+				Suffix suffix = suffixes.get(symbol);
+				if (suffix == null) {
+					final Unit<?> suffixUnit = format.parse(symbol);
+					if (unit != null && !unit.isCompatible(suffixUnit)) {
+						throw new MeasurementParseException(
+								"Unit " + symbol + " in record " + recordNumber + " is not compatible with " + unit);
+					}
+					suffix = new Suffix(suffixUnit);
+					suffixes.put(symbol, suffix);
+				}
+				lastSuffix = Arrays.copyOfRange(chars, start, end);
+				last = suffix;
+			}
+			rowUnit = last.unit;
+			return last.converter;
+		}
+
+		private boolean sameSuffix(char[] chars, int start, int end) {
+			if (end - start != lastSuffix.length) {
+				return false;
+			}
+			for (int i = 0; i < lastSuffix.length; i++) {
+				if (chars[start + i] != lastSuffix[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
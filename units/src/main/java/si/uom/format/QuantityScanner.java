@@ -0,0 +1,442 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+
+import si.uom.NonSI;
+import si.uom.spi.PrefixedUnits;
+import si.uom.spi.RegisteredUnits;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Finds quantities, i.e. numbers followed by a unit, in free text such as log
+ * lines: <code>"temp drift 3.2 mK"</code>, <code>"dose 40 mrem"</code> or
+ * <code>"pressure 760 mmHg"</code>.
+ * <p>
+ * Unit symbols of all registered units of {@link si.uom.SI} and
+ * {@link si.uom.NonSI} are matched through a character trie in a single
+ * forward pass, without regular expressions or intermediate strings.
+ * {@link MetricPrefix Metric prefixes} are only matched on units which take
+ * them: system units, the gram, the litre and a few units outside the SI such
+ * as <code>eV</code>, <code>t</code> or <code>rem</code>, but neither units of
+ * time like <code>min</code> or <code>h</code> nor units of angle. By default,
+ * prefixes beyond 10<sup>±15</sup> and atto are left out, so words like
+ * <code>"am"</code> or <code>"as"</code> are not taken for units. Compound units like
+ * <code>m/s</code> are parsed with the unit format once per distinct symbol.
+ * </p>
+ * <p>
+ * Instances are immutable apart from the compound symbol cache and may be
+ * shared between threads.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public class QuantityScanner {
+
+	/**
+	 * Receives the quantities found by a {@link QuantityScanner}.
+	 */
+	@FunctionalInterface
+	public interface Handler {
+		/**
+		 * Called for each quantity found.
+		 *
+		 * @param start the index of the first character of the number.
+		 * @param end   the index after the last character of the unit.
+		 * @param value the numeric value.
+		 * @param unit  the unit.
+		 */
+		void quantity(int start, int end, double value, Unit<?> unit);
+	}
+
+	private static final String COMPOUND_CHARS = "/·⋅*^()²³¹⁰⁴⁵⁶⁷⁸⁹⁻";
+
+	private static final String[] MICRO_ALIASES = { "μ", "u" };
+
+	private static final int MAX_COMPOUND_SYMBOLS = 4096;
+
+	private static final Object NOT_A_UNIT = new Object();
+
+	/**
+	 * The prefixes matched by default.
+	 */
+	public static final Set<MetricPrefix> DEFAULT_PREFIXES;
+
+	static {
+		final Set<MetricPrefix> prefixes = EnumSet.noneOf(MetricPrefix.class);
+		for (MetricPrefix prefix : MetricPrefix.values()) {
+			if (Math.abs(prefix.getExponent()) <= 15 && prefix != MetricPrefix.ATTO) {
+				prefixes.add(prefix);
+			}
+		}
+		DEFAULT_PREFIXES = Collections.unmodifiableSet(prefixes);
+	}
+
+	/**
+	 * Units which are not system units, but take metric prefixes. Some of them
+	 * are deprecated, but still registered and scanned.
+	 */
+	@SuppressWarnings("deprecation")
+	private static final Unit<?>[] PREFIXABLE = { Units.GRAM, Units.LITRE, NonSI.BEL, NonSI.CURIE, NonSI.DALTON,
+			NonSI.ELECTRON_VOLT, NonSI.PARSEC, NonSI.POISE, NonSI.REM, NonSI.ROENTGEN, NonSI.STOKES, NonSI.TONNE };
+
+	private static final QuantityScanner INSTANCE = new QuantityScanner(CachedUnitFormat.getInstance());
+
+	private final UnitFormat format;
+
+	private final Node root = new Node();
+
+	private final Map<String, Object> compoundUnits = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a scanner for the unit symbols of the specified format, matching
+	 * the {@link #DEFAULT_PREFIXES default prefixes}.
+	 *
+	 * @param format the unit format.
+	 */
+	public QuantityScanner(UnitFormat format) {
+		this(format, DEFAULT_PREFIXES);
+	}
+
+	/**
+	 * Creates a scanner for the unit symbols of the specified format, matching
+	 * the specified prefixes on units which take prefixes.
+	 *
+	 * @param format   the unit format.
+	 * @param prefixes the prefixes to match.
+	 */
+	public QuantityScanner(UnitFormat format, Set<MetricPrefix> prefixes) {
+		this.format = format;
+		final Map<Unit<?>, Boolean> prefixable = new IdentityHashMap<>();
+		for (Unit<?> unit : PREFIXABLE) {
+			prefixable.put(unit, Boolean.TRUE);
+		}
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			final String symbol = format.format(unit);
+			if (!isSymbol(symbol) || "kg".equals(symbol)
+					|| !(prefixable.containsKey(unit) || unit.equals(unit.getSystemUnit()))) {
+				continue;
+			}
+			for (MetricPrefix prefix : prefixes) {
+				final Entry entry = new Entry(unit, prefix);
+				add(prefix.getSymbol() + symbol, entry);
+				if (prefix == MetricPrefix.MICRO) {
+					for (String alias : MICRO_ALIASES) {
+						add(alias + symbol, entry);
+					}
+				}
+			}
+		}
+		// plain symbols take precedence over prefixed ones, e.g. "min" or "cd"
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			final String symbol = format.format(unit);
+			if (isSymbol(symbol)) {
+				add(symbol, new Entry(unit, null));
+			}
+		}
+	}
+
+	/**
+	 * Returns the scanner for the unit symbols of {@link CachedUnitFormat}.
+	 *
+	 * @return the default scanner.
+	 */
+	public static QuantityScanner getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Finds all quantities in a character sequence.
+	 *
+	 * @param csq     the text to scan.
+	 * @param handler the receiver of quantities found.
+	 * @return the number of quantities found.
+	 */
+	public int scan(CharSequence csq, Handler handler) {
+		return scan(csq, 0, csq.length(), handler);
+	}
+
+	/**
+	 * Finds all quantities in a window of a character sequence. Offsets reported
+	 * to the handler are indexes of the whole sequence.
+	 *
+	 * @param csq     the text to scan.
+	 * @param start   the index of the first character to scan.
+	 * @param end     the index after the last character to scan.
+	 * @param handler the receiver of quantities found.
+	 * @return the number of quantities found.
+	 */
+	public int scan(CharSequence csq, int start, int end, Handler handler) {
+		final DecimalScanner decimals = new DecimalScanner();
+		final UnitMatch match = new UnitMatch();
+		int count = 0;
+		int i = start;
+		while (i < end) {
+			if (!isNumberStart(csq, start, i, end) || !decimals.scan(csq, i, end)) {
+				i++;
+				continue;
+			}
+			int j = decimals.end;
+			while (j < end && (csq.charAt(j) == ' ' || csq.charAt(j) == '\t')) {
+				j++;
+			}
+			if (matchUnit(csq, j, end, match)) {
+				handler.quantity(i, match.end, decimals.value, match.unit);
+				count++;
+				i = match.end;
+			} else {
+				i = decimals.end;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Matches the unit starting at <code>start</code>, preferring a compound unit
+	 * over the longest plain or prefixed symbol.
+	 */
+	private boolean matchUnit(CharSequence csq, int start, int limit, UnitMatch match) {
+		int tokenEnd = start;
+		boolean compound = false;
+		while (tokenEnd < limit) {
+			final char c = csq.charAt(tokenEnd);
+			if (COMPOUND_CHARS.indexOf(c) >= 0 || (c == '-' && tokenEnd > start && csq.charAt(tokenEnd - 1) == '^')) {
+				compound = true;
+			} else if (!isUnitChar(c)) {
+				break;
+			}
+			tokenEnd++;
+		}
+		if (tokenEnd == start) {
+			return false;
+		}
+		Node node = root;
+		Entry best = null;
+		int bestEnd = -1;
+		for (int k = start; k < tokenEnd; k++) {
+			node = node.child(csq.charAt(k));
+			if (node == null) {
+				break;
+			}
+			if (node.entry != null && (k + 1 == limit || !isLetterOrDigit(csq.charAt(k + 1)))) {
+				best = node.entry;
+				bestEnd = k + 1;
+			}
+		}
+		if (compound && bestEnd < tokenEnd) {
+			final int end = trimCompound(csq, start, tokenEnd);
+			if (end > bestEnd) {
+				final Unit<?> unit = compoundUnit(csq.subSequence(start, end).toString());
+				if (unit != null) {
+					match.unit = unit;
+					match.end = end;
+					return true;
+				}
+			}
+		}
+		if (best == null) {
+			return false;
+		}
+		match.unit = best.unit();
+		match.end = bestEnd;
+		return true;
+	}
+
+	private Unit<?> compoundUnit(String symbol) {
+		Object unit = compoundUnits.get(symbol);
+		if (unit == null) {
+			try {
+				unit = format.parse(symbol);
+			} catch (RuntimeException e) {
+				unit = NOT_A_UNIT;
+			}
+			if (compoundUnits.size() < MAX_COMPOUND_SYMBOLS) {
+				compoundUnits.put(symbol, unit);
+			}
+		}
+		return unit != NOT_A_UNIT ? (Unit<?>) unit : null;
+	}
+
+	private void add(String symbol, Entry entry) {
+		Node node = root;
+		for (int i = 0; i < symbol.length(); i++) {
+			node = node.add(symbol.charAt(i));
+		}
+		node.entry = entry;
+	}
+
+	/**
+	 * Drops trailing operators and unbalanced closing parentheses, e.g. of
+	 * <code>"(40 m/s)"</code>.
+	 */
+	private static int trimCompound(CharSequence csq, int start, int end) {
+		int depth = 0;
+		int balancedEnd = start;
+		for (int i = start; i < end; i++) {
+			final char c = csq.charAt(i);
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				if (depth == 0) {
+					break;
+				}
+				depth--;
+			}
+			if (depth == 0) {
+				balancedEnd = i + 1;
+			}
+		}
+		while (balancedEnd > start && "/·⋅*^-".indexOf(csq.charAt(balancedEnd - 1)) >= 0) {
+			balancedEnd--;
+		}
+		return balancedEnd;
+	}
+
+	private static boolean isNumberStart(CharSequence csq, int start, int i, int end) {
+		if (i > start) {
+			final char previous = csq.charAt(i - 1);
+			if (isLetterOrDigit(previous) || previous == '.' || previous == '_') {
+				return false;
+			}
+		}
+		char c = csq.charAt(i);
+		if ((c == '-' || c == '+') && i + 1 < end) {
+			c = csq.charAt(++i);
+		}
+		if (c == '.' && i + 1 < end) {
+			c = csq.charAt(i + 1);
+		}
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetterOrDigit(char c) {
+		return Character.isLetterOrDigit(c);
+	}
+
+	private static boolean isUnitChar(char c) {
+		return isLetterOrDigit(c) || c == '%' || c == '\''
+				|| (c > 127 && Character.getType(c) == Character.OTHER_SYMBOL);
+	}
+
+	/**
+	 * Indicates if a formatted unit is a single symbol which may be prefixed.
+	 */
+	private static boolean isSymbol(String symbol) {
+		if (symbol == null || symbol.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < symbol.length(); i++) {
+			final char c = symbol.charAt(i);
+			if (Character.isWhitespace(c) || (i == 0 && Character.isDigit(c)) || COMPOUND_CHARS.indexOf(c) >= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A node of the symbol trie, children are kept sorted by character.
+	 */
+	private static final class Node {
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		private Entry entry;
+
+		private Node child(char c) {
+			final int i = Arrays.binarySearch(keys, c);
+			return i >= 0 ? children[i] : null;
+		}
+
+		private Node add(char c) {
+			int i = Arrays.binarySearch(keys, c);
+			if (i >= 0) {
+				return children[i];
+			}
+			i = -i - 1;
+			final char[] newKeys = new char[keys.length + 1];
+			final Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, i);
+			System.arraycopy(children, 0, newChildren, 0, i);
+			System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+			System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+			newKeys[i] = c;
+			newChildren[i] = new Node();
+			keys = newKeys;
+			children = newChildren;
+			return newChildren[i];
+		}
+	}
+
+	/**
+	 * A registered unit with an optional prefix, the prefixed unit is created on
+	 * first match.
+	 */
+	private static final class Entry {
+		private final Unit<?> base;
+		private final MetricPrefix prefix;
+		private volatile Unit<?> unit;
+
+		private Entry(Unit<?> base, MetricPrefix prefix) {
+			this.base = base;
+			this.prefix = prefix;
+			this.unit = prefix == null ? base : null;
+		}
+
+		private Unit<?> unit() {
+			Unit<?> u = unit;
+			if (u == null) {
+				u = PrefixedUnits.get(base, prefix);
+				unit = u;
+			}
+			return u;
+		}
+	}
+
+	/**
+	 * The result of a unit match, reused during one scan.
+	 */
+	private static final class UnitMatch {
+		private Unit<?> unit;
+		private int end;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts formatted units between ASCII-safe and full Unicode renderings.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+final class SymbolTransliteration {
+
+	private static final String SUPERSCRIPTS = "⁰¹²³⁴⁵⁶⁷⁸⁹";
+
+	private static final char SUPERSCRIPT_MINUS = '⁻';
+
+	private static final Map<Character, String> ASCII = new HashMap<>();
+
+	static {
+		ASCII.put('·', "*");
+		ASCII.put('⋅', "*");
+		ASCII.put('×', "*");
+		ASCII.put('µ', "u");
+		ASCII.put('μ', "u");
+		ASCII.put('Ω', "Ohm");
+		ASCII.put('Å', "Ang");
+		// not "h", which is the symbol of the hour
+		ASCII.put('ℎ', "h_P");
+		ASCII.put('ħ', "hbar");
+		ASCII.put('Δ', "D");
+		ASCII.put('ν', "nu");
+		ASCII.put('ε', "eps");
+		ASCII.put('π', "pi");
+		ASCII.put('°', "deg");
+		ASCII.put('℃', "degC");
+		ASCII.put('℉', "degF");
+		ASCII.put('′', "'");
+		ASCII.put('″', "''");
+	}
+
+	private SymbolTransliteration() {
+	}
+
+	/**
+	 * Returns an ASCII-only rendering, e.g. <code>W/(sr*m^2)</code> for
+	 * <code>W/(sr·m²)</code>.
+	 *
+	 * @param text the formatted unit.
+	 * @return the ASCII-safe text.
+	 */
+	static String toAscii(String text) {
+		if (isAscii(text)) {
+			return text;
+		}
+		final StringBuilder sb = new StringBuilder(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			if (c < 128) {
+				sb.append(c);
+			} else if (c == SUPERSCRIPT_MINUS || SUPERSCRIPTS.indexOf(c) >= 0) {
+				sb.append('^');
+				for (; i < text.length(); i++) {
+					final char s = text.charAt(i);
+					final int digit = SUPERSCRIPTS.indexOf(s);
+					if (s == SUPERSCRIPT_MINUS) {
+						sb.append('-');
+					} else if (digit >= 0) {
+						sb.append((char) ('0' + digit));
+					} else {
+						break;
+					}
+				}
+				i--;
+			} else {
+				final String mapped = ASCII.get(c);
+				sb.append(mapped != null ? mapped : decompose(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns a full Unicode rendering with superscript exponents, e.g.
+	 * <code>m⁴</code> for <code>m^4</code>.
+	 *
+	 * @param text the formatted unit.
+	 * @return the Unicode text.
+	 */
+	static String toUnicode(String text) {
+		if (text.indexOf('^') < 0) {
+			return text;
+		}
+		final StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			int j = i + 1;
+			if (c == '^' && j < text.length() && text.charAt(j) == '-') {
+				j++;
+			}
+			final int digits = j;
+			while (j < text.length() && text.charAt(j) >= '0' && text.charAt(j) <= '9') {
+				j++;
+			}
+			if (c != '^' || j == digits) {
+				sb.append(c);
+				continue;
+			}
+			for (int k = i + 1; k < j; k++) {
+				final char s = text.charAt(k);
+				sb.append(s == '-' ? SUPERSCRIPT_MINUS : SUPERSCRIPTS.charAt(s - '0'));
+			}
+			i = j - 1;
+		}
+		return sb.toString();
+	}
+
+	private static String decompose(char c) {
+		final String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD);
+		final StringBuilder sb = new StringBuilder(decomposed.length());
+		for (int i = 0; i < decomposed.length(); i++) {
+			if (decomposed.charAt(i) < 128) {
+				sb.append(decomposed.charAt(i));
+			}
+		}
+		return sb.length() > 0 ? sb.toString() : "?";
+	}
+
+	private static boolean isAscii(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) >= 128) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
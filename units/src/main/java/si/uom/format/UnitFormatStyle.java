@@ -0,0 +1,102 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import javax.measure.format.UnitFormat;
+
+import tech.units.indriya.format.EBNFUnitFormat;
+import tech.units.indriya.format.SimpleUnitFormat;
+
+/**
+ * The unit format styles for which {@link CachedUnitFormat} keeps precomputed
+ * representations.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public enum UnitFormatStyle {
+	/**
+	 * The default flavor of {@link SimpleUnitFormat}, as used by
+	 * <code>toString()</code> of units.
+	 */
+	SIMPLE,
+
+	/**
+	 * The ASCII flavor of {@link SimpleUnitFormat}, transliterated so that the
+	 * output only contains ASCII characters, e.g. <code>Ang</code> for
+	 * <code>Å</code> or <code>m^2</code> for <code>m²</code>.
+	 */
+	ASCII,
+
+	/**
+	 * The default flavor of {@link SimpleUnitFormat} with all exponents rendered
+	 * as Unicode superscripts, e.g. <code>m⁴</code> for <code>m^4</code>.
+	 */
+	UNICODE,
+
+	/**
+	 * The {@link EBNFUnitFormat}.
+	 */
+	EBNF;
+
+	/**
+	 * Returns the underlying unit format of this style.
+	 *
+	 * @return the unit format rendering this style.
+	 */
+	public UnitFormat getUnitFormat() {
+		switch (this) {
+		case ASCII:
+			return SimpleUnitFormat.getInstance(SimpleUnitFormat.Flavor.ASCII);
+		case EBNF:
+			return EBNFUnitFormat.getInstance();
+		default:
+			return SimpleUnitFormat.getInstance();
+		}
+	}
+
+	/**
+	 * Adapts the output of the underlying unit format to this style.
+	 *
+	 * @param text the output of {@link #getUnitFormat()}.
+	 * @return the text in this style.
+	 */
+	String render(String text) {
+		switch (this) {
+		case ASCII:
+			return SymbolTransliteration.toAscii(text);
+		case UNICODE:
+			return SymbolTransliteration.toUnicode(text);
+		default:
+			return text;
+		}
+	}
+}
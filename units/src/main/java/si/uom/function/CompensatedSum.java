@@ -0,0 +1,218 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A state object accumulating a sum of <code>double</code> values with
+ * Neumaier's variant of Kahan's compensated summation, together with a bound of
+ * its rounding error.
+ * <p>
+ * Large arrays can be summed {@link #parallelSum(double[], int, int) in
+ * parallel}; each chunk is summed with compensation and the partial sums and
+ * their compensations are combined the same way, so the result keeps the
+ * accuracy of the sequential algorithm.
+ * </p>
+ * <p>
+ * The {@link #getErrorBound() error bound} is <code>(2u + 2nu²) Σ|x<sub>i</sub>|</code>,
+ * where <code>u = 2<sup>-53</sup></code> is the unit roundoff and
+ * <code>n</code> the number of values, compared to
+ * <code>(n - 1)u Σ|x<sub>i</sub>|</code> for naive summation.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ * @see <a href="https://en.wikipedia.org/wiki/Kahan_summation_algorithm">
+ *      Wikipedia: Kahan summation algorithm</a>
+ */
+public final class CompensatedSum implements DoubleConsumer {
+
+	/**
+	 * The number of values below which arrays are summed sequentially.
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 15;
+
+	private static final double UNIT_ROUNDOFF = Math.ulp(1d) / 2;
+
+	private double sum;
+
+	private double compensation;
+
+	private double absoluteSum;
+
+	private long count;
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value the value to add.
+	 */
+	@Override
+	public void accept(double value) {
+		add(value);
+		absoluteSum += Math.abs(value);
+		count++;
+	}
+
+	private void add(double value) {
+		final double t = sum + value;
+		if (Math.abs(sum) >= Math.abs(value)) {
+			compensation += (sum - t) + value;
+		} else {
+			compensation += (value - t) + sum;
+		}
+		sum = t;
+	}
+
+	/**
+	 * Combines the state of another sum into this one.
+	 *
+	 * @param other the other sum.
+	 * @return this sum.
+	 */
+	public CompensatedSum combine(CompensatedSum other) {
+		add(other.sum);
+		compensation += other.compensation;
+		absoluteSum += other.absoluteSum;
+		count += other.count;
+		return this;
+	}
+
+	/**
+	 * Returns the compensated sum of the recorded values.
+	 *
+	 * @return the sum, or zero if no value was recorded.
+	 */
+	public double getSum() {
+		// the compensation is meaningless once the sum overflowed or is NaN
+		return Double.isFinite(sum) ? sum + compensation : sum;
+	}
+
+	/**
+	 * Returns a bound of the absolute rounding error of {@link #getSum()}.
+	 *
+	 * @return the error bound.
+	 */
+	public double getErrorBound() {
+		return (2 * UNIT_ROUNDOFF + 2 * count * UNIT_ROUNDOFF * UNIT_ROUNDOFF) * absoluteSum;
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return the count.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the compensated sum of an array range, computed sequentially.
+	 *
+	 * @param values the values.
+	 * @param from   the index of the first value, inclusive.
+	 * @param to     the index of the last value, exclusive.
+	 * @return the sum.
+	 * @throws IndexOutOfBoundsException if the range is out of bounds.
+	 */
+	public static CompensatedSum sum(double[] values, int from, int to) {
+		checkRange(values.length, from, to);
+		final CompensatedSum result = new CompensatedSum();
+		for (int i = from; i < to; i++) {
+			result.accept(values[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the compensated sum of an array range, computed in chunks on the
+	 * {@link ForkJoinPool#commonPool() common pool} for large ranges.
+	 *
+	 * @param values the values.
+	 * @param from   the index of the first value, inclusive.
+	 * @param to     the index of the last value, exclusive.
+	 * @return the sum.
+	 * @throws IndexOutOfBoundsException if the range is out of bounds.
+	 */
+	public static CompensatedSum parallelSum(double[] values, int from, int to) {
+		checkRange(values.length, from, to);
+		if (to - from <= PARALLEL_THRESHOLD) {
+			return sum(values, from, to);
+		}
+		return ForkJoinPool.commonPool().invoke(new SumTask(values, from, to));
+	}
+
+	private static void checkRange(int length, int from, int to) {
+		if (from < 0 || to > length || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + length);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s{count=%d, sum=%s, errorBound=%s}", getClass().getSimpleName(), count, getSum(),
+				getErrorBound());
+	}
+
+	@SuppressWarnings("serial")
+	private static final class SumTask extends RecursiveTask<CompensatedSum> {
+
+		private final double[] values;
+
+		private final int from;
+
+		private final int to;
+
+		SumTask(double[] values, int from, int to) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected CompensatedSum compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				return sum(values, from, to);
+			}
+			final int middle = (from + to) >>> 1;
+			final SumTask left = new SumTask(values, from, middle);
+			left.fork();
+			final CompensatedSum right = new SumTask(values, middle, to).compute();
+			return left.join().combine(right);
+		}
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import si.uom.ConstantConversions;
+import si.uom.spi.RegisteredUnits;
+import si.uom.spi.UnitCache;
+import si.uom.spi.UnitCache.References;
+import tech.units.indriya.function.AddConverter;
+
+/**
+ * A unit converter working on primitive <code>double</code> values.<br>
+ * Conversions made of linear and offset steps only are folded into a single
+ * <code>factor * value + offset</code> operation, other conversions delegate to
+ * the {@link UnitConverter} they were created from.
+ * <p>
+ * Converters to the system unit of all registered units of {@link si.uom.SI}
+ * and {@link si.uom.NonSI} are computed only once, using the folded factors of
+ * {@link ConstantConversions} for the units of fundamental constants.
+ * Converters between two units are cached per pair of units, so repeated
+ * lookups neither allocate nor recompute factors: in tables indexed by unit ID
+ * for registered units, and in the {@link UnitCache caches} named
+ * <code>"converters"</code> and <code>"system-converters"</code>, holding them
+ * softly by default, for other units.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class DoubleConverter {
+
+	/**
+	 * The identity converter.
+	 */
+	public static final DoubleConverter IDENTITY = new DoubleConverter(1, 0, null);
+
+	private static final int SIZE = RegisteredUnits.getUnits().size();
+
+	/**
+	 * Rows of converters between registered units by source and target unit ID,
+	 * created lazily.
+	 */
+	private static final AtomicReferenceArray<AtomicReferenceArray<DoubleConverter>> ROWS = new AtomicReferenceArray<>(
+			SIZE);
+
+	/**
+	 * Converters by source and target unit, if any of them is not registered.
+	 */
+	private static final UnitCache<DoubleConverter> PAIRS = UnitCache.create("converters", 4096, References.SOFT);
+
+	/**
+	 * Converters to the system unit of units which are not registered.
+	 */
+	private static final UnitCache<DoubleConverter> SYSTEM_CONVERTERS = UnitCache.create("system-converters", 4096,
+			References.SOFT);
+
+	private final double factor;
+
+	private final double offset;
+
+	/**
+	 * The converter used for non-affine conversions, <code>null</code> otherwise.
+	 */
+	private final UnitConverter converter;
+
+	private DoubleConverter(double factor, double offset, UnitConverter converter) {
+		this.factor = factor;
+		this.offset = offset;
+		this.converter = converter;
+	}
+
+	/**
+	 * Returns the primitive converter equivalent to the specified unit converter.
+	 *
+	 * @param converter the unit converter.
+	 * @return the corresponding primitive converter.
+	 */
+	public static DoubleConverter of(UnitConverter converter) {
+		if (converter.isIdentity()) {
+			return IDENTITY;
+		}
+		if (isAffine(converter)) {
+			final double offset = converter.convert(0d);
+			return new DoubleConverter(converter.convert(1d) - offset, offset, null);
+		}
+		return new DoubleConverter(Double.NaN, Double.NaN, converter);
+	}
+
+	/**
+	 * Returns the primitive converter from the specified unit to its system unit.
+	 *
+	 * @param unit the unit to convert from.
+	 * @return the converter to <code>unit.getSystemUnit()</code>.
+	 */
+	public static DoubleConverter toSystemUnit(Unit<?> unit) {
+		DoubleConverter converter = Registered.IDENTITIES.get(unit);
+		if (converter == null) {
+			converter = SYSTEM_CONVERTERS.get(unit);
+			if (converter == null) {
+				converter = Registered.EQUALITIES.get(unit);
+				if (converter == null) {
+					converter = systemConverterOf(unit);
+				}
+				SYSTEM_CONVERTERS.put(unit, converter);
+			}
+		}
+		return converter;
+	}
+
+	/**
+	 * Returns the primitive converter between the specified units.
+	 *
+	 * @param source the unit to convert from.
+	 * @param target the unit to convert to.
+	 * @return the converter from <code>source</code> to <code>target</code>.
+	 * @throws UnconvertibleException if the units are not compatible.
+	 */
+	public static DoubleConverter of(Unit<?> source, Unit<?> target) throws UnconvertibleException {
+		if (source == target) {
+			return IDENTITY;
+		}
+		final int sourceId = RegisteredUnits.indexOfInstance(source);
+		final int targetId = RegisteredUnits.indexOfInstance(target);
+		if (sourceId >= 0 && targetId >= 0) {
+			AtomicReferenceArray<DoubleConverter> row = ROWS.get(sourceId);
+			if (row == null) {
+				ROWS.compareAndSet(sourceId, null, new AtomicReferenceArray<>(SIZE));
+				row = ROWS.get(sourceId);
+			}
+			DoubleConverter converter = row.get(targetId);
+			if (converter == null) {
+				converter = compute(source, target);
+				row.set(targetId, converter);
+			}
+			return converter;
+		}
+		DoubleConverter converter = PAIRS.get(source, target);
+		if (converter == null) {
+			converter = compute(source, target);
+			PAIRS.put(source, target, converter);
+		}
+		return converter;
+	}
+
+	private static DoubleConverter compute(Unit<?> source, Unit<?> target) {
+		if (!source.isCompatible(target)) {
+			throw new UnconvertibleException(source + " is not compatible with " + target);
+		}
+		final DoubleConverter toSystem = toSystemUnit(source);
+		final DoubleConverter fromSystem = toSystemUnit(target);
+		if (toSystem.converter == null && fromSystem.converter == null) {
+			// y = (a1 * x + b1 - b2) / a2
+			final double f = toSystem.factor / fromSystem.factor;
+			final double o = (toSystem.offset - fromSystem.offset) / fromSystem.factor;
+			return f == 1d && o == 0d ? IDENTITY : new DoubleConverter(f, o, null);
+		}
+		try {
+			return of(source.getConverterToAny(target));
+		} catch (IncommensurableException e) {
+			throw new UnconvertibleException(e);
+		}
+	}
+
+	/**
+	 * Converts a primitive value.
+	 *
+	 * @param value the value to convert.
+	 * @return the converted value.
+	 */
+	public double convert(double value) {
+		return converter == null ? value * factor + offset : converter.convert(value);
+	}
+
+	/**
+	 * Converts a range of values in place.
+	 *
+	 * @param values the values to convert.
+	 * @param from   the index of the first value to convert (inclusive).
+	 * @param to     the index of the last value to convert (exclusive).
+	 */
+	public void convert(double[] values, int from, int to) {
+		if (converter != null) {
+			for (int i = from; i < to; i++) {
+				values[i] = converter.convert(values[i]);
+			}
+		} else if (offset == 0d) {
+			if (factor != 1d) {
+				for (int i = from; i < to; i++) {
+					values[i] *= factor;
+				}
+			}
+		} else {
+			for (int i = from; i < to; i++) {
+				values[i] = values[i] * factor + offset;
+			}
+		}
+	}
+
+	/**
+	 * Returns the inverse of this converter.
+	 *
+	 * @return the inverse converter.
+	 */
+	public DoubleConverter inverse() {
+		if (this == IDENTITY) {
+			return IDENTITY;
+		}
+		if (converter != null) {
+			return new DoubleConverter(Double.NaN, Double.NaN, converter.inverse());
+		}
+		return new DoubleConverter(1d / factor, -offset / factor, null);
+	}
+
+	/**
+	 * Indicates if this converter is of the form <code>factor * value + offset</code>.
+	 *
+	 * @return <code>true</code> if this converter is affine.
+	 */
+	public boolean isAffine() {
+		return converter == null;
+	}
+
+	/**
+	 * Indicates if this converter is of the form <code>factor * value</code>.
+	 *
+	 * @return <code>true</code> if this converter is linear.
+	 */
+	public boolean isLinear() {
+		return converter == null ? offset == 0d : converter.isLinear();
+	}
+
+	/**
+	 * Indicates if this converter is an identity converter.
+	 *
+	 * @return <code>true</code> if this converter does not change values.
+	 */
+	public boolean isIdentity() {
+		return converter == null && factor == 1d && offset == 0d;
+	}
+
+	/**
+	 * Returns the factor of this affine converter.
+	 *
+	 * @return the factor or {@link Double#NaN} if this converter is not affine.
+	 */
+	public double getFactor() {
+		return factor;
+	}
+
+	/**
+	 * Returns the offset of this affine converter.
+	 *
+	 * @return the offset or {@link Double#NaN} if this converter is not affine.
+	 */
+	public double getOffset() {
+		return offset;
+	}
+
+	@Override
+	public String toString() {
+		if (converter != null) {
+			return getClass().getSimpleName() + "[" + converter + "]";
+		}
+		return getClass().getSimpleName() + "[x * " + factor + " + " + offset + "]";
+	}
+
+	private static DoubleConverter systemConverterOf(Unit<?> unit) {
+		final ConstantConversions.Conversion constant = ConstantConversions.get(unit);
+		if (constant != null) {
+			return new DoubleConverter(constant.getFactor(), 0d, null);
+		}
+		try {
+			return of(unit.getConverterToAny(unit.getSystemUnit()));
+		} catch (IncommensurableException e) {
+			throw new UnconvertibleException(e);
+		}
+	}
+
+	private static boolean isAffine(UnitConverter converter) {
+		if (converter.isLinear()) {
+			return true;
+		}
+		for (UnitConverter step : converter.getConversionSteps()) {
+			if (!step.isLinear() && !(step instanceof AddConverter)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Holds the converters of registered units, computed on first use.
+	 */
+	private static final class Registered {
+		private static final Map<Unit<?>, DoubleConverter> IDENTITIES = new IdentityHashMap<>();
+		private static final Map<Unit<?>, DoubleConverter> EQUALITIES = new HashMap<>();
+
+		static {
+			for (Unit<?> unit : RegisteredUnits.getUnits()) {
+				final DoubleConverter converter;
+				try {
+					converter = systemConverterOf(unit);
+				} catch (RuntimeException e) {
+					continue;
+				}
+				IDENTITIES.put(unit, converter);
+				EQUALITIES.put(unit, converter);
+			}
+		}
+	}
+}
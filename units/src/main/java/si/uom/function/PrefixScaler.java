@@ -0,0 +1,324 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.quantities.DoubleQuantities;
+import si.uom.spi.PrefixedUnits;
+import si.uom.spi.UnitInterner;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Scales values to the best {@link MetricPrefix metric prefix} of their unit,
+ * i.e. the largest prefix keeping the scaled magnitude at least one, or to a
+ * configured alternative unit for that prefix, e.g. {@link si.uom.NonSI#TONNE}
+ * instead of megagram.
+ * <p>
+ * The decimal exponent of a value is derived from its binary exponent with at
+ * most one comparison, and mapped to a prefix by a table computed once per
+ * scaler, so no trial conversions are made. Prefixed units are the shared
+ * instances of {@link PrefixedUnits}.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class PrefixScaler {
+
+	private static final int MIN_EXPONENT = -40;
+
+	private static final int MAX_EXPONENT = 40;
+
+	private static final double LOG10_2 = Math.log10(2);
+
+	/**
+	 * Powers of ten from <code>10^MIN_EXPONENT</code> to
+	 * <code>10^MAX_EXPONENT</code>.
+	 */
+	private static final double[] POWERS_OF_TEN = new double[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+	static {
+		for (int e = MIN_EXPONENT; e <= MAX_EXPONENT; e++) {
+			POWERS_OF_TEN[e - MIN_EXPONENT] = Double.parseDouble("1e" + e);
+		}
+	}
+
+	private static final PrefixScaler ENGINEERING;
+
+	static {
+		final Set<MetricPrefix> prefixes = EnumSet.noneOf(MetricPrefix.class);
+		for (MetricPrefix prefix : MetricPrefix.values()) {
+			if (prefix.getValue().intValue() == 10 && prefix.getExponent() % 3 == 0) {
+				prefixes.add(prefix);
+			}
+		}
+		ENGINEERING = new PrefixScaler(prefixes, Collections.<Unit<?>, Map<MetricPrefix, Unit<?>>>emptyMap());
+	}
+
+	/**
+	 * The best prefix by decimal exponent, <code>null</code> for no prefix.
+	 */
+	private final MetricPrefix[] best = new MetricPrefix[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+	private final Set<MetricPrefix> prefixes;
+
+	/**
+	 * Alternative units by base unit and prefix.
+	 */
+	private final Map<Unit<?>, Map<MetricPrefix, Unit<?>>> alternatives;
+
+	private PrefixScaler(Set<MetricPrefix> prefixes, Map<Unit<?>, Map<MetricPrefix, Unit<?>>> alternatives) {
+		this.prefixes = prefixes;
+		this.alternatives = alternatives;
+		for (int e = MIN_EXPONENT; e <= MAX_EXPONENT; e++) {
+			// the largest option not exceeding the exponent, no prefix counts as 0
+			MetricPrefix chosen = null;
+			int chosenExponent = 0;
+			boolean found = e >= 0;
+			for (MetricPrefix prefix : prefixes) {
+				final int p = prefix.getExponent();
+				if (p <= e && (!found || p > chosenExponent)) {
+					chosen = prefix;
+					chosenExponent = p;
+					found = true;
+				}
+			}
+			if (!found) {
+				// below all options, use the smallest one
+				for (MetricPrefix prefix : prefixes) {
+					if (prefix.getExponent() < chosenExponent) {
+						chosen = prefix;
+						chosenExponent = prefix.getExponent();
+					}
+				}
+			}
+			best[e - MIN_EXPONENT] = chosen;
+		}
+	}
+
+	/**
+	 * Returns the scaler using the engineering prefixes, i.e. the powers of a
+	 * thousand from {@link MetricPrefix#QUECTO} to {@link MetricPrefix#QUETTA}.
+	 *
+	 * @return the default scaler.
+	 */
+	public static PrefixScaler getInstance() {
+		return ENGINEERING;
+	}
+
+	/**
+	 * Returns a scaler using the specified prefixes.
+	 *
+	 * @param prefixes the prefixes to choose from.
+	 * @return the scaler.
+	 */
+	public static PrefixScaler of(MetricPrefix... prefixes) {
+		final Set<MetricPrefix> set = EnumSet.noneOf(MetricPrefix.class);
+		set.addAll(Arrays.asList(prefixes));
+		return new PrefixScaler(set, Collections.<Unit<?>, Map<MetricPrefix, Unit<?>>>emptyMap());
+	}
+
+	/**
+	 * Returns a scaler which uses an alternative unit whenever the specified
+	 * prefix is chosen for the specified unit, e.g. {@link si.uom.NonSI#TONNE}
+	 * for {@link MetricPrefix#MEGA} and {@link Units#GRAM}.
+	 *
+	 * @param <Q>         the quantity type.
+	 * @param unit        the unit.
+	 * @param prefix      the prefix to replace.
+	 * @param alternative the alternative unit.
+	 * @return the new scaler.
+	 */
+	public <Q extends Quantity<Q>> PrefixScaler withAlternative(Unit<Q> unit, MetricPrefix prefix,
+			Unit<Q> alternative) {
+		final Map<Unit<?>, Map<MetricPrefix, Unit<?>>> map = new HashMap<>(alternatives);
+		final Map<MetricPrefix, Unit<?>> byPrefix = new HashMap<>(
+				map.getOrDefault(UnitInterner.intern(unit), Collections.<MetricPrefix, Unit<?>>emptyMap()));
+		byPrefix.put(Objects.requireNonNull(prefix, "prefix"), Objects.requireNonNull(alternative, "alternative"));
+		map.put(UnitInterner.intern(unit), byPrefix);
+		return new PrefixScaler(prefixes, map);
+	}
+
+	/**
+	 * Returns the best prefix for a value.
+	 *
+	 * @param value the value.
+	 * @return the prefix, or <code>null</code> if the value is best shown without
+	 *         prefix.
+	 */
+	public MetricPrefix prefixOf(double value) {
+		final double abs = Math.abs(value);
+		if (abs == 0d || !Double.isFinite(abs)) {
+			return null;
+		}
+		return best[decimalExponent(abs) - MIN_EXPONENT];
+	}
+
+	/**
+	 * Scales a value to the best prefix of its unit.
+	 *
+	 * @param <Q>   the quantity type.
+	 * @param value the value.
+	 * @param unit  the unit of the value.
+	 * @return the scaled value.
+	 */
+	@SuppressWarnings("unchecked")
+	public <Q extends Quantity<Q>> Scaled<Q> scale(double value, Unit<Q> unit) {
+		Unit<Q> base = unit;
+		double v = value;
+		if (Units.KILOGRAM.equals(unit)) {
+			// prefixes apply to the gram
+			base = (Unit<Q>) Units.GRAM;
+			v *= 1000;
+		}
+		final MetricPrefix prefix = prefixOf(v);
+		if (prefix == null) {
+			return new Scaled<>(v, base, null, CachedUnitFormat.getInstance().format(base));
+		}
+		final Map<MetricPrefix, Unit<?>> byPrefix = alternatives.isEmpty() ? null
+				: alternatives.get(UnitInterner.intern(base));
+		final Unit<Q> alternative = byPrefix != null ? (Unit<Q>) byPrefix.get(prefix) : null;
+		if (alternative != null) {
+			return new Scaled<>(DoubleConverter.of(base, alternative).convert(v), alternative, null,
+					CachedUnitFormat.getInstance().format(alternative));
+		}
+		final int p = prefix.getExponent();
+		final double scaled = p > 0 ? v / POWERS_OF_TEN[p - MIN_EXPONENT] : v * POWERS_OF_TEN[-p - MIN_EXPONENT];
+		return new Scaled<>(scaled, PrefixedUnits.get(base, prefix), prefix, PrefixedUnits.getLabel(base, prefix));
+	}
+
+	/**
+	 * Returns the decimal exponent of a positive, finite value, clamped to the
+	 * table range.
+	 */
+	static int decimalExponent(double abs) {
+		int e = (int) Math.floor(Math.getExponent(abs) * LOG10_2);
+		if (e < MIN_EXPONENT) {
+			return MIN_EXPONENT;
+		}
+		if (e >= MAX_EXPONENT) {
+			return MAX_EXPONENT;
+		}
+		// the binary exponent determines the decimal one up to one
+		if (abs >= POWERS_OF_TEN[e + 1 - MIN_EXPONENT]) {
+			e++;
+		}
+		return e;
+	}
+
+	/**
+	 * A value scaled to a prefixed or alternative unit.
+	 *
+	 * @param <Q> the quantity type.
+	 */
+	public static final class Scaled<Q extends Quantity<Q>> {
+
+		private final double value;
+
+		private final Unit<Q> unit;
+
+		private final MetricPrefix prefix;
+
+		private final String label;
+
+		Scaled(double value, Unit<Q> unit, MetricPrefix prefix, String label) {
+			this.value = value;
+			this.unit = unit;
+			this.prefix = prefix;
+			this.label = label;
+		}
+
+		/**
+		 * Returns the scaled value.
+		 *
+		 * @return the value stated in {@link #getUnit()}.
+		 */
+		public double getValue() {
+			return value;
+		}
+
+		/**
+		 * Returns the unit of the scaled value.
+		 *
+		 * @return the prefixed, alternative or original unit.
+		 */
+		public Unit<Q> getUnit() {
+			return unit;
+		}
+
+		/**
+		 * Returns the chosen prefix.
+		 *
+		 * @return the prefix, or <code>null</code> if no prefix applies.
+		 */
+		public MetricPrefix getPrefix() {
+			return prefix;
+		}
+
+		/**
+		 * Returns the label of the unit.
+		 *
+		 * @return the label, e.g. <code>"µS/m"</code>.
+		 */
+		public String getLabel() {
+			return label;
+		}
+
+		/**
+		 * Returns the scaled value as quantity.
+		 *
+		 * @return the quantity.
+		 */
+		public Quantity<Q> toQuantity() {
+			return DoubleQuantities.getQuantity(value, unit);
+		}
+
+		@Override
+		public String toString() {
+			return value + " " + label;
+		}
+	}
+}
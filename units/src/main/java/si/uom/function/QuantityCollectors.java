@@ -0,0 +1,125 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * Implementations of {@link Collector} reducing streams of quantities in mixed,
+ * compatible units to a single result in a target unit.
+ * <p>
+ * All collectors accumulate primitive values in {@link QuantityStatistics},
+ * resolving one converter per distinct source unit instead of converting and
+ * allocating a quantity per element.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityCollectors {
+
+	/**
+	 * Private singleton constructor.
+	 */
+	private QuantityCollectors() {
+	}
+
+	/**
+	 * Returns a collector summarizing quantities in the specified unit.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit of the results.
+	 * @return the collector.
+	 */
+	public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, QuantityStatistics<Q>> summarizing(
+			Unit<Q> unit) {
+		return collector(unit, Function.identity());
+	}
+
+	/**
+	 * Returns a collector summing quantities in the specified unit. The sum of no
+	 * quantities is zero.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit of the result.
+	 * @return the collector.
+	 */
+	public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Quantity<Q>> summing(Unit<Q> unit) {
+		return collector(unit, QuantityStatistics::getSum);
+	}
+
+	/**
+	 * Returns a collector averaging quantities in the specified unit. The average
+	 * of no quantities is zero.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit of the result.
+	 * @return the collector.
+	 */
+	public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Quantity<Q>> averaging(Unit<Q> unit) {
+		return collector(unit, QuantityStatistics::getAverage);
+	}
+
+	/**
+	 * Returns a collector for the minimum of quantities in the specified unit.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit of the result.
+	 * @return the collector, resulting in an empty optional if there are no
+	 *         quantities.
+	 */
+	public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Optional<Quantity<Q>>> minimum(Unit<Q> unit) {
+		return collector(unit, s -> s.getCount() > 0 ? Optional.of(s.getMin()) : Optional.<Quantity<Q>>empty());
+	}
+
+	/**
+	 * Returns a collector for the maximum of quantities in the specified unit.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit of the result.
+	 * @return the collector, resulting in an empty optional if there are no
+	 *         quantities.
+	 */
+	public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Optional<Quantity<Q>>> maximum(Unit<Q> unit) {
+		return collector(unit, s -> s.getCount() > 0 ? Optional.of(s.getMax()) : Optional.<Quantity<Q>>empty());
+	}
+
+	private static <Q extends Quantity<Q>, R> Collector<Quantity<Q>, QuantityStatistics<Q>, R> collector(
+			Unit<Q> unit, Function<QuantityStatistics<Q>, R> finisher) {
+		return Collector.of(() -> new QuantityStatistics<>(unit), QuantityStatistics::accept,
+				QuantityStatistics::combine, finisher, Collector.Characteristics.UNORDERED);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * Compares quantities in different, compatible units without creating
+ * converted quantities.
+ * <p>
+ * The second operand is converted to the unit of the first one with the cached
+ * {@link DoubleConverter} of that pair of units, so comparisons only use
+ * primitive arithmetic once a pair has been seen.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityComparison {
+
+	/**
+	 * Private singleton constructor.
+	 */
+	private QuantityComparison() {
+	}
+
+	/**
+	 * Compares two quantities.
+	 *
+	 * @param <Q> the quantity type.
+	 * @param q1  the first quantity.
+	 * @param q2  the second quantity.
+	 * @return the value <code>0</code> if both quantities are equal, a value less
+	 *         than <code>0</code> if <code>q1</code> is less than <code>q2</code>
+	 *         and a value greater than <code>0</code> otherwise, as defined by
+	 *         {@link Double#compare(double, double)}.
+	 * @throws javax.measure.UnconvertibleException if the units are not
+	 *                                            compatible.
+	 */
+	public static <Q extends Quantity<Q>> int compare(Quantity<Q> q1, Quantity<Q> q2) {
+		return Double.compare(QuantityStatistics.valueOf(q1), valueOf(q2, q1.getUnit()));
+	}
+
+	/**
+	 * Indicates if two quantities are equal after conversion.
+	 *
+	 * @param <Q> the quantity type.
+	 * @param q1  the first quantity.
+	 * @param q2  the second quantity.
+	 * @return <code>true</code> if both quantities are exactly equal.
+	 * @throws javax.measure.UnconvertibleException if the units are not
+	 *                                            compatible.
+	 */
+	public static <Q extends Quantity<Q>> boolean isEquivalent(Quantity<Q> q1, Quantity<Q> q2) {
+		return compare(q1, q2) == 0;
+	}
+
+	/**
+	 * Indicates if two quantities differ by no more than a fraction of the
+	 * larger magnitude.
+	 *
+	 * @param <Q>               the quantity type.
+	 * @param q1                the first quantity.
+	 * @param q2                the second quantity.
+	 * @param relativeTolerance the tolerated fraction, e.g. <code>1e-9</code>.
+	 * @return <code>true</code> if
+	 *         <code>|q1 - q2| &lt;= relativeTolerance * max(|q1|, |q2|)</code>.
+	 * @throws javax.measure.UnconvertibleException if the units are not
+	 *                                            compatible.
+	 */
+	public static <Q extends Quantity<Q>> boolean isEquivalent(Quantity<Q> q1, Quantity<Q> q2,
+			double relativeTolerance) {
+		final double v1 = QuantityStatistics.valueOf(q1);
+		final double v2 = valueOf(q2, q1.getUnit());
+		return v1 == v2 || Math.abs(v1 - v2) <= relativeTolerance * Math.max(Math.abs(v1), Math.abs(v2));
+	}
+
+	/**
+	 * Indicates if two quantities differ by no more than an absolute tolerance.
+	 *
+	 * @param <Q>       the quantity type.
+	 * @param q1        the first quantity.
+	 * @param q2        the second quantity.
+	 * @param tolerance the tolerated difference, e.g. <code>0.5 mmHg</code>.
+	 * @return <code>true</code> if <code>|q1 - q2| &lt;= tolerance</code>.
+	 * @throws javax.measure.UnconvertibleException if the units are not
+	 *                                            compatible.
+	 */
+	public static <Q extends Quantity<Q>> boolean isEquivalent(Quantity<Q> q1, Quantity<Q> q2,
+			Quantity<Q> tolerance) {
+		final Unit<Q> unit = q1.getUnit();
+		final double v1 = QuantityStatistics.valueOf(q1);
+		final double v2 = valueOf(q2, unit);
+		return v1 == v2 || Math.abs(v1 - v2) <= Math.abs(differenceOf(tolerance, unit));
+	}
+
+	private static <Q extends Quantity<Q>> double valueOf(Quantity<Q> quantity, Unit<Q> unit) {
+		final Unit<Q> source = quantity.getUnit();
+		final double value = QuantityStatistics.valueOf(quantity);
+		return source == unit ? value : DoubleConverter.of(source, unit).convert(value);
+	}
+
+	/**
+	 * Converts a difference, ignoring the offset of affine conversions.
+	 */
+	private static <Q extends Quantity<Q>> double differenceOf(Quantity<Q> quantity, Unit<Q> unit) {
+		final Unit<Q> source = quantity.getUnit();
+		final double value = QuantityStatistics.valueOf(quantity);
+		if (source == unit) {
+			return value;
+		}
+		final DoubleConverter converter = DoubleConverter.of(source, unit);
+		return converter.isAffine() ? value * converter.getFactor()
+				: converter.convert(value) - converter.convert(0d);
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+
+import si.uom.SI;
+import si.uom.spi.QuantityTypeRegistry;
+
+/**
+ * An immutable arithmetic expression over quantity variables, e.g.
+ * <code>dynamicViscosity / density</code>, which is
+ * {@link #compile(Unit) compiled} into a {@link QuantityKernel} evaluating it
+ * over primitive arrays.
+ * <p>
+ * The unit of each subexpression is derived when the expression is built, so
+ * incompatible additions fail at that time, and conversions, e.g. of an addend
+ * to the unit of the augend, are resolved to {@link DoubleConverter
+ * converters} once. The compiled kernel performs no per-element unit work.
+ * </p>
+ *
+ * <pre>
+ * QuantityExpression dynamicViscosity = QuantityExpression.variable("dynamicViscosity", SI.PASCAL_SECOND);
+ * QuantityExpression density = QuantityExpression.variable("density", SI.KILOGRAM_PER_CUBIC_METRE);
+ * QuantityKernel&lt;KinematicViscosity&gt; kernel = dynamicViscosity.divide(density).compile(KinematicViscosity.class);
+ * </pre>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityExpression {
+
+	enum Operation {
+		VARIABLE("?"), MULTIPLY("*"), DIVIDE("/"), ADD("+"), SUBTRACT("-"), SCALE("*"), CONVERT("->");
+
+		final String symbol;
+
+		Operation(String symbol) {
+			this.symbol = symbol;
+		}
+	}
+
+	final Operation operation;
+
+	final Unit<?> unit;
+
+	final String name;
+
+	final QuantityExpression left;
+
+	final QuantityExpression right;
+
+	final double factor;
+
+	final DoubleConverter converter;
+
+	private QuantityExpression(Operation operation, Unit<?> unit, String name, QuantityExpression left,
+			QuantityExpression right, double factor, DoubleConverter converter) {
+		this.operation = operation;
+		this.unit = unit;
+		this.name = name;
+		this.left = left;
+		this.right = right;
+		this.factor = factor;
+		this.converter = converter;
+	}
+
+	private static QuantityExpression binary(Operation operation, Unit<?> unit, QuantityExpression left,
+			QuantityExpression right) {
+		return new QuantityExpression(operation, unit, null, left, right, Double.NaN, null);
+	}
+
+	/**
+	 * Returns a variable, bound to an input array when a compiled kernel is
+	 * evaluated.
+	 *
+	 * @param name the name of the variable.
+	 * @param unit the unit of the values of the variable.
+	 * @return the variable.
+	 */
+	public static QuantityExpression variable(String name, Unit<?> unit) {
+		return new QuantityExpression(Operation.VARIABLE, Objects.requireNonNull(unit, "unit"),
+				Objects.requireNonNull(name, "name"), null, null, Double.NaN, null);
+	}
+
+	/**
+	 * Returns the unit of the values of this expression.
+	 *
+	 * @return the unit.
+	 */
+	public Unit<?> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the product of this expression and another one, stated in the
+	 * product of both units.
+	 *
+	 * @param multiplier the other expression.
+	 * @return the product.
+	 */
+	public QuantityExpression multiply(QuantityExpression multiplier) {
+		return binary(Operation.MULTIPLY, unit.multiply(multiplier.unit), this, multiplier);
+	}
+
+	/**
+	 * Returns the quotient of this expression and another one, stated in the
+	 * quotient of both units.
+	 *
+	 * @param divisor the other expression.
+	 * @return the quotient.
+	 */
+	public QuantityExpression divide(QuantityExpression divisor) {
+		return binary(Operation.DIVIDE, unit.divide(divisor.unit), this, divisor);
+	}
+
+	/**
+	 * Returns the sum of this expression and another one, stated in the unit of
+	 * this expression.
+	 *
+	 * @param addend the other expression.
+	 * @return the sum.
+	 * @throws UnconvertibleException if the units are not compatible.
+	 */
+	public QuantityExpression add(QuantityExpression addend) {
+		return binary(Operation.ADD, unit, this, addend.convertTo(unit));
+	}
+
+	/**
+	 * Returns the difference of this expression and another one, stated in the
+	 * unit of this expression.
+	 *
+	 * @param subtrahend the other expression.
+	 * @return the difference.
+	 * @throws UnconvertibleException if the units are not compatible.
+	 */
+	public QuantityExpression subtract(QuantityExpression subtrahend) {
+		return binary(Operation.SUBTRACT, unit, this, subtrahend.convertTo(unit));
+	}
+
+	/**
+	 * Returns this expression multiplied by a constant factor.
+	 *
+	 * @param multiplier the factor.
+	 * @return the product.
+	 */
+	public QuantityExpression multiply(double multiplier) {
+		if (operation == Operation.SCALE) {
+			return new QuantityExpression(Operation.SCALE, unit, null, left, null, factor * multiplier, null);
+		}
+		return new QuantityExpression(Operation.SCALE, unit, null, this, null, multiplier, null);
+	}
+
+	/**
+	 * Returns this expression divided by a constant divisor.
+	 *
+	 * @param divisor the divisor.
+	 * @return the quotient.
+	 */
+	public QuantityExpression divide(double divisor) {
+		return multiply(1d / divisor);
+	}
+
+	/**
+	 * Returns this expression stated in the specified unit.
+	 *
+	 * @param unit the unit to convert to.
+	 * @return this expression if the conversion is the identity, otherwise the
+	 *         converted expression.
+	 * @throws UnconvertibleException if the units are not compatible.
+	 */
+	public QuantityExpression convertTo(Unit<?> unit) {
+		final DoubleConverter converter = DoubleConverter.of(this.unit, unit);
+		if (converter.isIdentity()) {
+			return this;
+		}
+		if (converter.isLinear()) {
+			return multiply(converter.getFactor()).withUnit(unit);
+		}
+		return new QuantityExpression(Operation.CONVERT, unit, null, this, null, Double.NaN, converter);
+	}
+
+	private QuantityExpression withUnit(Unit<?> unit) {
+		return new QuantityExpression(operation, unit, name, left, right, factor, converter);
+	}
+
+	/**
+	 * Compiles this expression to a kernel stating its results in the specified
+	 * unit.
+	 *
+	 * @param <Q>  the quantity type of the results.
+	 * @param unit the unit of the results.
+	 * @return the kernel.
+	 * @throws UnconvertibleException if the unit of this expression is not
+	 *                                compatible with <code>unit</code>.
+	 */
+	public <Q extends Quantity<Q>> QuantityKernel<Q> compile(Unit<Q> unit) {
+		return new QuantityKernel<>(convertTo(unit), unit);
+	}
+
+	/**
+	 * Compiles this expression to a kernel stating its results in the system unit
+	 * of the specified quantity type.
+	 *
+	 * @param <Q>  the quantity type of the results.
+	 * @param type the quantity type of the results.
+	 * @return the kernel.
+	 * @throws ClassCastException if the dimension of this expression does not
+	 *                            match the dimension of the quantity type.
+	 */
+	public <Q extends Quantity<Q>> QuantityKernel<Q> compile(Class<Q> type) {
+		Unit<Q> typeUnit = QuantityTypeRegistry.getSystemUnit(type);
+		if (typeUnit == null) {
+			typeUnit = SI.getInstance().getUnit(type);
+		}
+		if (typeUnit != null && !typeUnit.getDimension().equals(unit.getDimension())) {
+			throw new ClassCastException("The dimension " + unit.getDimension() + " of " + this
+					+ " does not match the dimension " + typeUnit.getDimension() + " of " + type.getName());
+		}
+		return compile(unit.getSystemUnit().asType(type));
+	}
+
+	@Override
+	public String toString() {
+		switch (operation) {
+		case VARIABLE:
+			return name;
+		case SCALE:
+			return "(" + left + " * " + factor + ")";
+		case CONVERT:
+			return "(" + left + " -> " + unit + ")";
+		default:
+			return "(" + left + " " + operation.symbol + " " + right + ")";
+		}
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.function.QuantityExpression.Operation;
+import si.uom.quantities.QuantityArray;
+
+/**
+ * A compiled {@link QuantityExpression}, evaluating it over primitive arrays.
+ * <p>
+ * The expression tree is flattened to a program of array operations, each of
+ * which processes a block of values in a plain loop before the next one runs,
+ * so the working set stays in cache and loops can be vectorized. All units and
+ * conversions were resolved when the expression was built; inputs are expected
+ * in the units of the {@link #getVariables() variables}.
+ * </p>
+ * <p>
+ * Kernels are immutable and may be evaluated concurrently.
+ * </p>
+ *
+ * @param <Q> the quantity type of the results.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityKernel<Q extends Quantity<Q>> {
+
+	/**
+	 * The number of values each operation processes at a time.
+	 */
+	static final int BLOCK_SIZE = 1024;
+
+	private final Unit<Q> unit;
+
+	private final List<String> names;
+
+	private final List<Unit<?>> units;
+
+	/* The program, one instruction per distinct subexpression in post-order. */
+
+	private final Operation[] operations;
+
+	private final int[] lefts;
+
+	private final int[] rights;
+
+	private final double[] factors;
+
+	private final DoubleConverter[] converters;
+
+	private final String expression;
+
+	QuantityKernel(QuantityExpression root, Unit<Q> unit) {
+		this.unit = unit;
+		final Map<String, Unit<?>> variables = new LinkedHashMap<>();
+		final List<QuantityExpression> program = new ArrayList<>();
+		flatten(root, new IdentityHashMap<>(), variables, program);
+		this.names = Collections.unmodifiableList(new ArrayList<>(variables.keySet()));
+		this.units = Collections.unmodifiableList(new ArrayList<>(variables.values()));
+		final int n = program.size();
+		operations = new Operation[n];
+		lefts = new int[n];
+		rights = new int[n];
+		factors = new double[n];
+		converters = new DoubleConverter[n];
+		for (int i = 0; i < n; i++) {
+			final QuantityExpression e = program.get(i);
+			operations[i] = e.operation;
+			factors[i] = e.factor;
+			converters[i] = e.converter;
+			// expressions do not override equals, so indexOf finds the same instance
+			lefts[i] = e.operation == Operation.VARIABLE ? names.indexOf(e.name) : program.indexOf(e.left);
+			rights[i] = e.right != null ? program.indexOf(e.right) : -1;
+		}
+		this.expression = root.toString();
+	}
+
+	private static void flatten(QuantityExpression e, Map<QuantityExpression, Boolean> visited,
+			Map<String, Unit<?>> variables, List<QuantityExpression> program) {
+		if (visited.put(e, Boolean.TRUE) != null) {
+			return;
+		}
+		if (e.operation == Operation.VARIABLE) {
+			final Unit<?> previous = variables.putIfAbsent(e.name, e.unit);
+			if (previous != null && !previous.equals(e.unit)) {
+				throw new IllegalArgumentException(
+						"Variable " + e.name + " used with units " + previous + " and " + e.unit);
+			}
+		}
+		if (e.left != null) {
+			flatten(e.left, visited, variables, program);
+		}
+		if (e.right != null) {
+			flatten(e.right, visited, variables, program);
+		}
+		program.add(e);
+	}
+
+	/**
+	 * Returns the unit of the results.
+	 *
+	 * @return the unit.
+	 */
+	public Unit<Q> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the names of the variables, in the order their inputs are passed to
+	 * the <code>evaluate</code> methods.
+	 *
+	 * @return the unmodifiable list of variable names.
+	 */
+	public List<String> getVariables() {
+		return names;
+	}
+
+	/**
+	 * Returns the unit expected for the inputs of a variable.
+	 *
+	 * @param index the index of the variable.
+	 * @return the unit.
+	 */
+	public Unit<?> getVariableUnit(int index) {
+		return units.get(index);
+	}
+
+	/**
+	 * Evaluates the expression for a range of values.
+	 *
+	 * @param inputs the values of each variable, stated in its unit.
+	 * @param output the array receiving the results, stated in {@link #getUnit()}.
+	 * @param from   the index of the first value, inclusive.
+	 * @param to     the index of the last value, exclusive.
+	 * @throws IllegalArgumentException  if the number of inputs does not match
+	 *                                   the number of variables.
+	 * @throws IndexOutOfBoundsException if an array is too short.
+	 */
+	public void evaluate(double[][] inputs, double[] output, int from, int to) {
+		if (inputs.length != names.size()) {
+			throw new IllegalArgumentException("Expected " + names.size() + " inputs " + names + ": " + inputs.length);
+		}
+		for (double[] input : inputs) {
+			if (input.length < to) {
+				throw new IndexOutOfBoundsException("Input too short: " + input.length + " < " + to);
+			}
+		}
+		if (output.length < to) {
+			throw new IndexOutOfBoundsException("Output too short: " + output.length + " < " + to);
+		}
+		final int n = operations.length;
+		final double[][] blocks = new double[n][];
+		for (int i = 0; i < n; i++) {
+			if (operations[i] != Operation.VARIABLE) {
+				blocks[i] = new double[Math.min(BLOCK_SIZE, Math.max(to - from, 0))];
+			}
+		}
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			final int length = Math.min(BLOCK_SIZE, to - start);
+			for (int i = 0; i < n; i++) {
+				run(i, inputs, blocks, start, length);
+			}
+			final int last = n - 1;
+			if (operations[last] == Operation.VARIABLE) {
+				System.arraycopy(inputs[lefts[last]], start, output, start, length);
+			} else {
+				System.arraycopy(blocks[last], 0, output, start, length);
+			}
+		}
+	}
+
+	/**
+	 * Evaluates the expression for arrays of equal length.
+	 *
+	 * @param inputs the values of each variable, stated in its unit.
+	 * @return the results, stated in {@link #getUnit()}.
+	 * @throws IllegalArgumentException if the number of inputs does not match the
+	 *                                  number of variables or the inputs differ
+	 *                                  in length.
+	 */
+	public double[] evaluate(double[]... inputs) {
+		final int length = inputs.length > 0 ? inputs[0].length : 0;
+		for (double[] input : inputs) {
+			if (input.length != length) {
+				throw new IllegalArgumentException("Inputs differ in length: " + length + " and " + input.length);
+			}
+		}
+		final double[] output = new double[length];
+		evaluate(inputs, output, 0, length);
+		return output;
+	}
+
+	/**
+	 * Evaluates the expression for quantity arrays of equal size, converting each
+	 * input to the unit of its variable first if necessary.
+	 *
+	 * @param inputs the quantities of each variable.
+	 * @return the results.
+	 * @throws IllegalArgumentException             if the number of inputs does not
+	 *                                              match the number of variables
+	 *                                              or the inputs differ in size.
+	 * @throws javax.measure.UnconvertibleException if an input is not compatible
+	 *                                              with its variable.
+	 */
+	public QuantityArray<Q> evaluate(QuantityArray<?>... inputs) {
+		if (inputs.length != names.size()) {
+			throw new IllegalArgumentException("Expected " + names.size() + " inputs " + names + ": " + inputs.length);
+		}
+		final double[][] values = new double[inputs.length][];
+		for (int i = 0; i < inputs.length; i++) {
+			values[i] = inputs[i].toDoubleArray();
+			DoubleConverter.of(inputs[i].getUnit(), units.get(i)).convert(values[i], 0, values[i].length);
+		}
+		return QuantityArray.wrap(unit, evaluate(values));
+	}
+
+	private void run(int i, double[][] inputs, double[][] blocks, int start, int length) {
+		final double[] out = blocks[i];
+		switch (operations[i]) {
+		case VARIABLE:
+			return; // read directly from the input
+		case SCALE: {
+			final double factor = factors[i];
+			final double[] a = operand(lefts[i], inputs, blocks);
+			final int ao = offset(lefts[i], start);
+			for (int k = 0; k < length; k++) {
+				out[k] = a[ao + k] * factor;
+			}
+			return;
+		}
+		case CONVERT: {
+			final double[] a = operand(lefts[i], inputs, blocks);
+			System.arraycopy(a, offset(lefts[i], start), out, 0, length);
+			converters[i].convert(out, 0, length);
+			return;
+		}
+		default:
+			break;
+		}
+		final double[] a = operand(lefts[i], inputs, blocks);
+		final double[] b = operand(rights[i], inputs, blocks);
+		final int ao = offset(lefts[i], start);
+		final int bo = offset(rights[i], start);
+		switch (operations[i]) {
+		case MULTIPLY:
+			for (int k = 0; k < length; k++) {
+				out[k] = a[ao + k] * b[bo + k];
+			}
+			break;
+		case DIVIDE:
+			for (int k = 0; k < length; k++) {
+				out[k] = a[ao + k] / b[bo + k];
+			}
+			break;
+		case ADD:
+			for (int k = 0; k < length; k++) {
+				out[k] = a[ao + k] + b[bo + k];
+			}
+			break;
+		case SUBTRACT:
+			for (int k = 0; k < length; k++) {
+				out[k] = a[ao + k] - b[bo + k];
+			}
+			break;
+		default:
+			throw new IllegalStateException(String.valueOf(operations[i]));
+		}
+	}
+
+	/**
+	 * Returns the array holding the values of an instruction, which is the input
+	 * itself for variables.
+	 */
+	private double[] operand(int instruction, double[][] inputs, double[][] blocks) {
+		return operations[instruction] == Operation.VARIABLE ? inputs[lefts[instruction]] : blocks[instruction];
+	}
+
+	private int offset(int instruction, int start) {
+		return operations[instruction] == Operation.VARIABLE ? start : 0;
+	}
+
+	@Override
+	public String toString() {
+		return expression + " [" + unit + "]";
+	}
+}
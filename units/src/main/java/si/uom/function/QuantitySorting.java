@@ -0,0 +1,233 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * Sorts quantities in mixed, compatible units by their magnitude in the system
+ * unit.
+ * <p>
+ * Instead of converting both operands inside every comparison, the value of
+ * each quantity is converted to its system unit once and mapped to a
+ * <code>long</code> key ordered like {@link Double#compare(double, double)}.
+ * The keys are sorted by a stable least significant digit radix sort carrying
+ * the original indices, which are finally used to permute the quantities.
+ * Fewer than {@value #RADIX_THRESHOLD} keys are sorted by a stable insertion
+ * sort instead, which is faster than the passes over the radix counts.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantitySorting {
+
+	private static final int DIGIT_BITS = 16;
+
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/**
+	 * The number of keys from which on the radix sort is used.
+	 */
+	static final int RADIX_THRESHOLD = 256;
+
+	private static final Comparator<Quantity<?>> COMPARATOR = new Comparator<Quantity<?>>() {
+		@Override
+		public int compare(Quantity<?> q1, Quantity<?> q2) {
+			return Double.compare(systemValue(q1), systemValue(q2));
+		}
+	};
+
+	/**
+	 * Private singleton constructor.
+	 */
+	private QuantitySorting() {
+	}
+
+	/**
+	 * Returns a comparator ordering quantities by their value in the system unit.
+	 * <p>
+	 * The comparator does not allocate once the converter of a unit is cached;
+	 * converters are cached by {@link DoubleConverter#toSystemUnit(Unit)}.
+	 * </p>
+	 *
+	 * @param <Q> the quantity type.
+	 * @return the comparator.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <Q extends Quantity<Q>> Comparator<Quantity<Q>> comparator() {
+		return (Comparator) COMPARATOR;
+	}
+
+	/**
+	 * Sorts a list of quantities in ascending order of their value in the system
+	 * unit. The sort is stable.
+	 *
+	 * @param <Q>        the quantity type.
+	 * @param quantities the list to sort.
+	 */
+	public static <Q extends Quantity<Q>> void sort(List<Quantity<Q>> quantities) {
+		final Object[] elements = quantities.toArray();
+		final int[] order = sortedIndices(quantities);
+		final ListIterator<Quantity<Q>> iterator = quantities.listIterator();
+		for (int index : order) {
+			iterator.next();
+			@SuppressWarnings("unchecked")
+			final Quantity<Q> element = (Quantity<Q>) elements[index];
+			iterator.set(element);
+		}
+	}
+
+	/**
+	 * Returns the indices of the specified quantities in ascending order of
+	 * their value in the system unit, without modifying the list.
+	 *
+	 * @param quantities the quantities.
+	 * @return the permutation sorting the quantities.
+	 */
+	public static int[] sortedIndices(List<? extends Quantity<?>> quantities) {
+		final int n = quantities.size();
+		final long[] keys = new long[n];
+		Unit<?> lastUnit = null;
+		DoubleConverter converter = null;
+		int i = 0;
+		for (Quantity<?> quantity : quantities) {
+			final Unit<?> unit = quantity.getUnit();
+			if (unit != lastUnit) {
+				converter = DoubleConverter.toSystemUnit(unit);
+				lastUnit = unit;
+			}
+			keys[i++] = sortableKey(converter.convert(QuantityStatistics.valueOf(quantity)));
+		}
+		return sortedIndices(keys);
+	}
+
+	/**
+	 * Returns the indices of the specified values in ascending order as defined
+	 * by {@link Double#compare(double, double)}.
+	 *
+	 * @param values the values.
+	 * @return the permutation sorting the values.
+	 */
+	public static int[] sortedIndices(double[] values) {
+		final long[] keys = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			keys[i] = sortableKey(values[i]);
+		}
+		return sortedIndices(keys);
+	}
+
+	/**
+	 * Sorts the keys, treated as unsigned, and returns the resulting
+	 * permutation. The keys are used as scratch space.
+	 */
+	private static int[] sortedIndices(long[] keys) {
+		return keys.length < RADIX_THRESHOLD ? insertionSortedIndices(keys) : radixSortedIndices(keys);
+	}
+
+	private static int[] insertionSortedIndices(long[] keys) {
+		final int n = keys.length;
+		final int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			final long key = keys[i];
+			int j = i;
+			for (; j > 0 && Long.compareUnsigned(keys[j - 1], key) > 0; j--) {
+				keys[j] = keys[j - 1];
+				order[j] = order[j - 1];
+			}
+			keys[j] = key;
+			order[j] = i;
+		}
+		return order;
+	}
+
+	private static int[] radixSortedIndices(long[] keys) {
+		final int n = keys.length;
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		long[] sourceKeys = keys;
+		long[] targetKeys = new long[n];
+		int[] targetOrder = new int[n];
+		final int[] counts = new int[RADIX];
+		for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < n; i++) {
+				counts[digit(sourceKeys[i], shift)]++;
+			}
+			if (n > 0 && counts[digit(sourceKeys[0], shift)] == n) {
+				continue; // all keys share this digit
+			}
+			int position = 0;
+			for (int d = 0; d < RADIX; d++) {
+				final int count = counts[d];
+				counts[d] = position;
+				position += count;
+			}
+			for (int i = 0; i < n; i++) {
+				final int target = counts[digit(sourceKeys[i], shift)]++;
+				targetKeys[target] = sourceKeys[i];
+				targetOrder[target] = order[i];
+			}
+			final long[] swapKeys = sourceKeys;
+			sourceKeys = targetKeys;
+			targetKeys = swapKeys;
+			final int[] swapOrder = order;
+			order = targetOrder;
+			targetOrder = swapOrder;
+		}
+		return order;
+	}
+
+	private static int digit(long key, int shift) {
+		return (int) (key >>> shift) & (RADIX - 1);
+	}
+
+	/**
+	 * Maps a value to a key whose unsigned order matches
+	 * {@link Double#compare(double, double)}.
+	 */
+	static long sortableKey(double value) {
+		final long bits = Double.doubleToLongBits(value);
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+
+	private static double systemValue(Quantity<?> quantity) {
+		return DoubleConverter.toSystemUnit(quantity.getUnit()).convert(QuantityStatistics.valueOf(quantity));
+	}
+}
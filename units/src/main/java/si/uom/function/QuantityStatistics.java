@@ -0,0 +1,231 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.quantities.AbstractDoubleQuantity;
+import si.uom.quantities.CompactQuantity;
+import si.uom.quantities.DoubleQuantities;
+
+/**
+ * A state object for collecting statistics of quantities in arbitrary
+ * compatible units, such as count, sum, minimum, maximum and average, stated in
+ * a single target unit.
+ * <p>
+ * Values are accumulated as primitive <code>double</code>s. The converter of
+ * each distinct source unit is resolved only once, so no intermediate quantity
+ * is created per accepted element.
+ * </p>
+ * <p>
+ * This class is not thread-safe, but can be used with parallel streams through
+ * {@link QuantityCollectors}.
+ * </p>
+ *
+ * @param <Q> the quantity type.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ * @see java.util.DoubleSummaryStatistics
+ */
+public final class QuantityStatistics<Q extends Quantity<Q>> implements Consumer<Quantity<Q>> {
+
+	private final Unit<Q> unit;
+
+	private final Map<Unit<?>, DoubleConverter> converters = new IdentityHashMap<>();
+
+	private Unit<?> lastUnit;
+
+	private DoubleConverter lastConverter;
+
+	private long count;
+
+	private double sum;
+
+	private double min = Double.POSITIVE_INFINITY;
+
+	private double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Creates empty statistics.
+	 *
+	 * @param unit the unit to state all results in.
+	 */
+	public QuantityStatistics(Unit<Q> unit) {
+		this.unit = Objects.requireNonNull(unit, "unit");
+		this.lastUnit = unit;
+		this.lastConverter = DoubleConverter.IDENTITY;
+	}
+
+	/**
+	 * Records a quantity.
+	 *
+	 * @param quantity the quantity to record.
+	 * @throws javax.measure.UnconvertibleException if the unit of the quantity is
+	 *                                            not compatible with the target
+	 *                                            unit.
+	 */
+	@Override
+	public void accept(Quantity<Q> quantity) {
+		accept(valueOf(quantity), quantity.getUnit());
+	}
+
+	/**
+	 * Records a value stated in the specified unit.
+	 *
+	 * @param value the value to record.
+	 * @param unit  the unit of the value.
+	 * @throws javax.measure.UnconvertibleException if the unit is not compatible
+	 *                                            with the target unit.
+	 */
+	public void accept(double value, Unit<Q> unit) {
+		if (unit != lastUnit) {
+			DoubleConverter converter = converters.get(unit);
+			if (converter == null) {
+				converter = DoubleConverter.of(unit, this.unit);
+				converters.put(unit, converter);
+			}
+			lastUnit = unit;
+			lastConverter = converter;
+		}
+		record(lastConverter.convert(value));
+	}
+
+	private void record(double value) {
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Combines the state of other statistics stated in the same unit into this
+	 * one.
+	 *
+	 * @param other the other statistics.
+	 * @return this statistics.
+	 * @throws IllegalArgumentException if the other statistics are stated in a
+	 *                                  different unit.
+	 */
+	public QuantityStatistics<Q> combine(QuantityStatistics<Q> other) {
+		if (!unit.equals(other.unit)) {
+			throw new IllegalArgumentException("Unit mismatch: " + unit + " and " + other.unit);
+		}
+		count += other.count;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		return this;
+	}
+
+	/**
+	 * Returns the unit all results are stated in.
+	 *
+	 * @return the target unit.
+	 */
+	public Unit<Q> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the number of recorded quantities.
+	 *
+	 * @return the count.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the sum of the recorded quantities, or zero if none was recorded.
+	 *
+	 * @return the sum.
+	 */
+	public Quantity<Q> getSum() {
+		return DoubleQuantities.getQuantity(sum, unit);
+	}
+
+	/**
+	 * Returns the minimum of the recorded quantities, or positive infinity if
+	 * none was recorded.
+	 *
+	 * @return the minimum.
+	 */
+	public Quantity<Q> getMin() {
+		return DoubleQuantities.getQuantity(min, unit);
+	}
+
+	/**
+	 * Returns the maximum of the recorded quantities, or negative infinity if
+	 * none was recorded.
+	 *
+	 * @return the maximum.
+	 */
+	public Quantity<Q> getMax() {
+		return DoubleQuantities.getQuantity(max, unit);
+	}
+
+	/**
+	 * Returns the arithmetic mean of the recorded quantities, or zero if none was
+	 * recorded.
+	 *
+	 * @return the average.
+	 */
+	public Quantity<Q> getAverage() {
+		return DoubleQuantities.getQuantity(count > 0 ? sum / count : 0d, unit);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s{count=%d, sum=%f, min=%f, average=%f, max=%f, unit=%s}",
+				getClass().getSimpleName(), count, sum, min, count > 0 ? sum / count : 0d, max, unit);
+	}
+
+	/**
+	 * Returns the primitive value of a quantity, avoiding boxing for the
+	 * primitive implementations.
+	 */
+	static double valueOf(Quantity<?> quantity) {
+		if (quantity instanceof AbstractDoubleQuantity) {
+			return ((AbstractDoubleQuantity<?, ?>) quantity).doubleValue();
+		}
+		if (quantity instanceof CompactQuantity) {
+			return ((CompactQuantity<?>) quantity).doubleValue();
+		}
+		return quantity.getValue().doubleValue();
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.measure.Unit;
+
+import si.uom.spi.RegisteredUnits;
+import si.uom.spi.UnitCache;
+import si.uom.spi.UnitCache.References;
+import si.uom.spi.UnitInterner;
+
+/**
+ * Memoizes the results of unit algebra, i.e. products, quotients and powers of
+ * units.
+ * <p>
+ * Results for {@link RegisteredUnits registered} operands are kept in tables
+ * indexed by unit ID, which are bounded by the number of registered units.
+ * Results involving other operands are kept in the {@link UnitCache caches}
+ * named <code>"products"</code> and <code>"quotients"</code>, holding operands
+ * and, by default, results weakly, and in the cache named <code>"powers"</code>,
+ * holding a row of weakly referenced powers per operand. All results are
+ * {@link UnitInterner#intern(Unit) interned}, so e.g.
+ * <code>UnitAlgebra.divide(KILOGRAM, CUBIC_METRE)</code> returns
+ * {@link si.uom.SI#KILOGRAM_PER_CUBIC_METRE} itself.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class UnitAlgebra {
+
+	private static final int MULTIPLY = 0;
+
+	private static final int DIVIDE = 1;
+
+	/**
+	 * The largest absolute exponent memoized in the table of powers.
+	 */
+	private static final int MAX_EXPONENT = 8;
+
+	private static final int SIZE = RegisteredUnits.getUnits().size();
+
+	/**
+	 * Rows of results by operation and left operand ID, created lazily.
+	 */
+	private static final AtomicReferenceArray<AtomicReferenceArray<Unit<?>>> ROWS = new AtomicReferenceArray<>(
+			2 * SIZE);
+
+	/**
+	 * Powers by unit ID and exponent.
+	 */
+	private static final AtomicReferenceArray<Unit<?>> POWERS = new AtomicReferenceArray<>(
+			SIZE * (2 * MAX_EXPONENT + 1));
+
+	private static final UnitCache<Unit<?>> PRODUCTS = UnitCache.create("products", 4096, References.WEAK);
+
+	private static final UnitCache<Unit<?>> QUOTIENTS = UnitCache.create("quotients", 4096, References.WEAK);
+
+	/**
+	 * Rows of powers by exponent for other operands. The rows only refer weakly
+	 * to the powers, which refer to their operand.
+	 */
+	private static final UnitCache<AtomicReferenceArray<WeakReference<Unit<?>>>> WEAK_POWERS = UnitCache
+			.create("powers", 1024, References.STRONG);
+
+	/**
+	 * Private singleton constructor.
+	 */
+	private UnitAlgebra() {
+	}
+
+	/**
+	 * Returns the product of two units.
+	 *
+	 * @param left  the multiplicand.
+	 * @param right the multiplier.
+	 * @return the canonical instance of <code>left.multiply(right)</code>.
+	 */
+	public static Unit<?> multiply(Unit<?> left, Unit<?> right) {
+		return binary(MULTIPLY, left, right);
+	}
+
+	/**
+	 * Returns the quotient of two units.
+	 *
+	 * @param left  the dividend.
+	 * @param right the divisor.
+	 * @return the canonical instance of <code>left.divide(right)</code>.
+	 */
+	public static Unit<?> divide(Unit<?> left, Unit<?> right) {
+		return binary(DIVIDE, left, right);
+	}
+
+	/**
+	 * Returns a unit raised to an integer power.
+	 *
+	 * @param unit the unit.
+	 * @param n    the exponent.
+	 * @return the canonical instance of <code>unit.pow(n)</code>.
+	 */
+	public static Unit<?> pow(Unit<?> unit, int n) {
+		if (Math.abs(n) > MAX_EXPONENT) {
+			return UnitInterner.intern(unit.pow(n));
+		}
+		final int id = RegisteredUnits.indexOf(unit);
+		if (id >= 0) {
+			final int index = id * (2 * MAX_EXPONENT + 1) + n + MAX_EXPONENT;
+			Unit<?> result = POWERS.get(index);
+			if (result == null) {
+				result = UnitInterner.intern(unit.pow(n));
+				POWERS.set(index, result);
+			}
+			return result;
+		}
+		AtomicReferenceArray<WeakReference<Unit<?>>> row = WEAK_POWERS.get(unit);
+		if (row == null) {
+			row = WEAK_POWERS.putIfAbsent(unit, new AtomicReferenceArray<>(2 * MAX_EXPONENT + 1));
+		}
+		final WeakReference<Unit<?>> reference = row.get(n + MAX_EXPONENT);
+		Unit<?> result = reference != null ? reference.get() : null;
+		if (result == null) {
+			result = UnitInterner.intern(unit.pow(n));
+			row.set(n + MAX_EXPONENT, new WeakReference<>(result));
+		}
+		return result;
+	}
+
+	private static Unit<?> binary(int operation, Unit<?> left, Unit<?> right) {
+		final int leftId = RegisteredUnits.indexOf(left);
+		final int rightId = RegisteredUnits.indexOf(right);
+		if (leftId >= 0 && rightId >= 0) {
+			final int rowIndex = operation * SIZE + leftId;
+			AtomicReferenceArray<Unit<?>> row = ROWS.get(rowIndex);
+			if (row == null) {
+				ROWS.compareAndSet(rowIndex, null, new AtomicReferenceArray<>(SIZE));
+				row = ROWS.get(rowIndex);
+			}
+			Unit<?> result = row.get(rightId);
+			if (result == null) {
+				result = compute(operation, left, right);
+				row.set(rightId, result);
+			}
+			return result;
+		}
+		final UnitCache<Unit<?>> table = operation == MULTIPLY ? PRODUCTS : QUOTIENTS;
+		Unit<?> result = table.get(left, right);
+		if (result == null) {
+			result = compute(operation, left, right);
+			table.put(left, right, result);
+		}
+		return result;
+	}
+
+	private static Unit<?> compute(int operation, Unit<?> left, Unit<?> right) {
+		final Unit<?> result = operation == MULTIPLY ? left.multiply(right) : left.divide(right);
+		return UnitInterner.intern(result);
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.function.DoubleConverter;
+
+/**
+ * The base class of immutable quantities backed by a primitive
+ * <code>double</code> value instead of a boxed {@link Number}.
+ * <p>
+ * Arithmetic in the same unit is plain primitive arithmetic, conversions use
+ * the precomputed {@link DoubleConverter converters} of registered units. As
+ * implementations are final classes with a single primitive value, the JIT may
+ * replace intermediate results of chained operations by scalars altogether.
+ * </p>
+ *
+ * @param <Q> the quantity type.
+ * @param <T> the implementation type, returned by arithmetic in the same
+ *            quantity type.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public abstract class AbstractDoubleQuantity<Q extends Quantity<Q>, T extends AbstractDoubleQuantity<Q, T>>
+		implements Quantity<Q>, Comparable<Quantity<Q>> {
+
+	private final double value;
+
+	private final Unit<Q> unit;
+
+	private final Scale scale;
+
+	AbstractDoubleQuantity(double value, Unit<Q> unit, Scale scale) {
+		this.value = value;
+		this.unit = Objects.requireNonNull(unit, "unit");
+		this.scale = Objects.requireNonNull(scale, "scale");
+	}
+
+	/**
+	 * Creates a quantity of the implementation type.
+	 */
+	abstract T create(double value, Unit<Q> unit, Scale scale);
+
+	/**
+	 * Returns the primitive value of this quantity.
+	 *
+	 * @return the value stated in {@link #getUnit()}.
+	 */
+	public double doubleValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the primitive value of this quantity stated in the specified unit.
+	 *
+	 * @param unit the unit to state the value in.
+	 * @return the converted value.
+	 */
+	public double doubleValue(Unit<Q> unit) {
+		return this.unit == unit ? value : DoubleConverter.of(this.unit, unit).convert(value);
+	}
+
+	@Override
+	public Double getValue() {
+		return value;
+	}
+
+	@Override
+	public Unit<Q> getUnit() {
+		return unit;
+	}
+
+	@Override
+	public Scale getScale() {
+		return scale;
+	}
+
+	@Override
+	public T add(Quantity<Q> addend) {
+		return create(value + valueOf(addend, unit), unit, scale);
+	}
+
+	/**
+	 * Returns the sum of this quantity and a value in the same unit.
+	 *
+	 * @param addend the value to add, stated in {@link #getUnit()}.
+	 * @return <code>this + addend</code>.
+	 */
+	public T add(double addend) {
+		return create(value + addend, unit, scale);
+	}
+
+	@Override
+	public T subtract(Quantity<Q> subtrahend) {
+		return create(value - valueOf(subtrahend, unit), unit, scale);
+	}
+
+	/**
+	 * Returns the difference of this quantity and a value in the same unit.
+	 *
+	 * @param subtrahend the value to subtract, stated in {@link #getUnit()}.
+	 * @return <code>this - subtrahend</code>.
+	 */
+	public T subtract(double subtrahend) {
+		return create(value - subtrahend, unit, scale);
+	}
+
+	@Override
+	public T multiply(Number multiplier) {
+		return multiply(multiplier.doubleValue());
+	}
+
+	/**
+	 * Returns this quantity multiplied by a factor.
+	 *
+	 * @param multiplier the factor.
+	 * @return <code>this * multiplier</code>.
+	 */
+	public T multiply(double multiplier) {
+		return create(value * multiplier, unit, scale);
+	}
+
+	@Override
+	public Quantity<?> multiply(Quantity<?> multiplier) {
+		return DoubleQuantities.getQuantity(value * valueOf(multiplier), unit.multiply(multiplier.getUnit()));
+	}
+
+	@Override
+	public T divide(Number divisor) {
+		return divide(divisor.doubleValue());
+	}
+
+	/**
+	 * Returns this quantity divided by a divisor.
+	 *
+	 * @param divisor the divisor.
+	 * @return <code>this / divisor</code>.
+	 */
+	public T divide(double divisor) {
+		return create(value / divisor, unit, scale);
+	}
+
+	@Override
+	public Quantity<?> divide(Quantity<?> divisor) {
+		return DoubleQuantities.getQuantity(value / valueOf(divisor), unit.divide(divisor.getUnit()));
+	}
+
+	@Override
+	public Quantity<?> inverse() {
+		return DoubleQuantities.getQuantity(1d / value, unit.inverse());
+	}
+
+	@Override
+	public T negate() {
+		return create(-value, unit, scale);
+	}
+
+	@Override
+	public T to(Unit<Q> unit) {
+		if (this.unit == unit) {
+			@SuppressWarnings("unchecked")
+			final T self = (T) this;
+			return self;
+		}
+		return create(DoubleConverter.of(this.unit, unit).convert(value), unit, scale);
+	}
+
+	@Override
+	public <R extends Quantity<R>> Quantity<R> asType(Class<R> type) throws ClassCastException {
+		return DoubleQuantities.getQuantity(value, unit.asType(type), scale, type);
+	}
+
+	@Override
+	public boolean isEquivalentTo(Quantity<Q> that) {
+		return compareTo(that) == 0;
+	}
+
+	@Override
+	public int compareTo(Quantity<Q> that) {
+		return Double.compare(value, valueOf(that, unit));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof AbstractDoubleQuantity) {
+			final AbstractDoubleQuantity<?, ?> that = (AbstractDoubleQuantity<?, ?>) obj;
+			return Double.compare(value, that.value) == 0 && scale == that.scale && unit.equals(that.unit);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return (31 * unit.hashCode() + scale.hashCode()) * 31 + Double.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return value + " " + CachedUnitFormat.getInstance().format(unit);
+	}
+
+	/**
+	 * Returns the primitive value of a quantity without converting it.
+	 */
+	static double valueOf(Quantity<?> quantity) {
+		if (quantity instanceof AbstractDoubleQuantity) {
+			return ((AbstractDoubleQuantity<?, ?>) quantity).value;
+		}
+		if (quantity instanceof CompactQuantity) {
+			return ((CompactQuantity<?>) quantity).doubleValue();
+		}
+		return quantity.getValue().doubleValue();
+	}
+
+	/**
+	 * Returns the primitive value of a quantity stated in the specified unit.
+	 */
+	static <Q extends Quantity<Q>> double valueOf(Quantity<Q> quantity, Unit<Q> unit) {
+		final Unit<Q> source = quantity.getUnit();
+		final double v = valueOf(quantity);
+		return source == unit ? v : DoubleConverter.of(source, unit).convert(v);
+	}
+}
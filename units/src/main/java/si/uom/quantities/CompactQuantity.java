@@ -0,0 +1,347 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.function.DoubleConverter;
+import si.uom.spi.RegisteredUnits;
+
+/**
+ * A quantity in a registered unit, stored as its
+ * {@link RegisteredUnits#indexOf(Unit) unit ID} and a primitive
+ * <code>double</code> value.
+ * <p>
+ * Instances hold no references, so arrays of them avoid pointer chasing and
+ * they can be {@link #writeTo(ByteBuffer) written} in {@value #BYTES} bytes.
+ * Conversions and compatibility checks between registered units only use
+ * tables indexed by unit ID, which are computed once.
+ * </p>
+ * <p>
+ * Unit IDs depend on the units registered by this version of the library and
+ * on the labels of the default unit format when {@link RegisteredUnits} is
+ * initialized. Serialized values are only valid within one library version and
+ * label setup, so they should not be persisted or exchanged between processes
+ * which may differ in either.
+ * </p>
+ *
+ * @param <Q> the quantity type.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class CompactQuantity<Q extends Quantity<Q>> implements Quantity<Q>, Comparable<Quantity<Q>> {
+
+	/**
+	 * The number of bytes used to serialize a compact quantity.
+	 */
+	public static final int BYTES = Integer.BYTES + Double.BYTES;
+
+	/**
+	 * Holds the tables indexed by unit ID.
+	 */
+	private static final class Tables {
+
+		/** The converter of each unit to its system unit. */
+		static final DoubleConverter[] TO_SYSTEM;
+
+		/** Units with the same system unit share the same class. */
+		static final int[] SYSTEM_CLASS;
+
+		static {
+			final List<Unit<?>> units = RegisteredUnits.getUnits();
+			TO_SYSTEM = new DoubleConverter[units.size()];
+			SYSTEM_CLASS = new int[units.size()];
+			final Map<Unit<?>, Integer> classes = new HashMap<>();
+			for (int i = 0; i < units.size(); i++) {
+				final Unit<?> unit = units.get(i);
+				TO_SYSTEM[i] = DoubleConverter.toSystemUnit(unit);
+				final Integer systemClass = classes.putIfAbsent(unit.getSystemUnit(), classes.size());
+				SYSTEM_CLASS[i] = systemClass != null ? systemClass : classes.size() - 1;
+			}
+		}
+	}
+
+	private final int unitId;
+
+	private final double value;
+
+	private CompactQuantity(int unitId, double value) {
+		this.unitId = unitId;
+		this.value = value;
+	}
+
+	/**
+	 * Returns the compact quantity of the specified value and registered unit.
+	 *
+	 * @param <Q>   the quantity type.
+	 * @param value the primitive value.
+	 * @param unit  the registered unit.
+	 * @return the corresponding quantity.
+	 * @throws IllegalArgumentException if the unit is not registered.
+	 */
+	public static <Q extends Quantity<Q>> CompactQuantity<Q> of(double value, Unit<Q> unit) {
+		return new CompactQuantity<>(idOf(unit), value);
+	}
+
+	/**
+	 * Returns the compact quantity of the specified unit ID and value.
+	 *
+	 * @param unitId the unit ID.
+	 * @param value  the primitive value.
+	 * @return the corresponding quantity.
+	 * @throws IllegalArgumentException if <code>unitId</code> is not a valid unit
+	 *                                  ID.
+	 */
+	public static CompactQuantity<?> of(int unitId, double value) {
+		if (unitId < 0 || unitId >= Tables.TO_SYSTEM.length) {
+			throw new IllegalArgumentException("Invalid unit ID: " + unitId);
+		}
+		return create(unitId, value);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static CompactQuantity<?> create(int unitId, double value) {
+		return new CompactQuantity(unitId, value);
+	}
+
+	/**
+	 * Reads a compact quantity written by {@link #writeTo(ByteBuffer)} in a
+	 * process of the same library version and label setup.
+	 *
+	 * @param buffer the buffer to read {@value #BYTES} bytes from.
+	 * @return the quantity.
+	 * @throws IllegalArgumentException if the unit ID read is not valid.
+	 */
+	public static CompactQuantity<?> readFrom(ByteBuffer buffer) {
+		final int unitId = buffer.getInt();
+		return of(unitId, buffer.getDouble());
+	}
+
+	/**
+	 * Writes this quantity as unit ID followed by its value.
+	 *
+	 * @param buffer the buffer to write {@value #BYTES} bytes to.
+	 */
+	public void writeTo(ByteBuffer buffer) {
+		buffer.putInt(unitId).putDouble(value);
+	}
+
+	/**
+	 * Returns the ID of the unit of this quantity.
+	 *
+	 * @return the unit ID.
+	 * @see RegisteredUnits#get(int)
+	 */
+	public int getUnitId() {
+		return unitId;
+	}
+
+	/**
+	 * Returns the primitive value of this quantity.
+	 *
+	 * @return the value stated in {@link #getUnit()}.
+	 */
+	public double doubleValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the primitive value of this quantity stated in the specified unit.
+	 *
+	 * @param unit the unit to state the value in.
+	 * @return the converted value.
+	 * @throws UnconvertibleException if the units are not compatible.
+	 */
+	public double doubleValue(Unit<Q> unit) {
+		final int id = RegisteredUnits.indexOf(unit);
+		if (id < 0) {
+			return DoubleConverter.of(getUnit(), unit).convert(value);
+		}
+		return convert(value, unitId, id);
+	}
+
+	@Override
+	public Double getValue() {
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Unit<Q> getUnit() {
+		return (Unit<Q>) RegisteredUnits.get(unitId);
+	}
+
+	@Override
+	public Scale getScale() {
+		return Scale.ABSOLUTE;
+	}
+
+	@Override
+	public CompactQuantity<Q> add(Quantity<Q> addend) {
+		return new CompactQuantity<>(unitId, value + valueOf(addend));
+	}
+
+	@Override
+	public CompactQuantity<Q> subtract(Quantity<Q> subtrahend) {
+		return new CompactQuantity<>(unitId, value - valueOf(subtrahend));
+	}
+
+	@Override
+	public CompactQuantity<Q> multiply(Number multiplier) {
+		return new CompactQuantity<>(unitId, value * multiplier.doubleValue());
+	}
+
+	@Override
+	public Quantity<?> multiply(Quantity<?> multiplier) {
+		return DoubleQuantities.getQuantity(value * AbstractDoubleQuantity.valueOf(multiplier),
+				getUnit().multiply(multiplier.getUnit()));
+	}
+
+	@Override
+	public CompactQuantity<Q> divide(Number divisor) {
+		return new CompactQuantity<>(unitId, value / divisor.doubleValue());
+	}
+
+	@Override
+	public Quantity<?> divide(Quantity<?> divisor) {
+		return DoubleQuantities.getQuantity(value / AbstractDoubleQuantity.valueOf(divisor),
+				getUnit().divide(divisor.getUnit()));
+	}
+
+	@Override
+	public Quantity<?> inverse() {
+		return DoubleQuantities.getQuantity(1d / value, getUnit().inverse());
+	}
+
+	@Override
+	public CompactQuantity<Q> negate() {
+		return new CompactQuantity<>(unitId, -value);
+	}
+
+	/**
+	 * Returns this quantity converted to the specified registered unit.
+	 *
+	 * @param unit the registered unit to convert to.
+	 * @return the converted quantity.
+	 * @throws IllegalArgumentException if the unit is not registered.
+	 * @throws UnconvertibleException   if the units are not compatible.
+	 */
+	@Override
+	public CompactQuantity<Q> to(Unit<Q> unit) {
+		final int id = idOf(unit);
+		return id == unitId ? this : new CompactQuantity<>(id, convert(value, unitId, id));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <R extends Quantity<R>> Quantity<R> asType(Class<R> type) throws ClassCastException {
+		getUnit().asType(type); // checks dimension
+		return (Quantity<R>) (Quantity<?>) this;
+	}
+
+	@Override
+	public boolean isEquivalentTo(Quantity<Q> that) {
+		return compareTo(that) == 0;
+	}
+
+	@Override
+	public int compareTo(Quantity<Q> that) {
+		return Double.compare(value, valueOf(that));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof CompactQuantity) {
+			final CompactQuantity<?> that = (CompactQuantity<?>) obj;
+			return unitId == that.unitId && Double.compare(value, that.value) == 0;
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * unitId + Double.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return value + " " + CachedUnitFormat.getInstance().format(getUnit());
+	}
+
+	/**
+	 * Returns the value of a quantity stated in the unit of this quantity.
+	 */
+	private double valueOf(Quantity<Q> quantity) {
+		if (quantity instanceof CompactQuantity) {
+			final CompactQuantity<Q> that = (CompactQuantity<Q>) quantity;
+			return that.unitId == unitId ? that.value : convert(that.value, that.unitId, unitId);
+		}
+		return AbstractDoubleQuantity.valueOf(quantity, getUnit());
+	}
+
+	private static int idOf(Unit<?> unit) {
+		final int id = RegisteredUnits.indexOf(unit);
+		if (id < 0) {
+			throw new IllegalArgumentException("Not a registered unit: " + unit);
+		}
+		return id;
+	}
+
+	/**
+	 * Converts a value between two registered units using the unit ID tables.
+	 *
+	 * @throws UnconvertibleException if the units are not compatible.
+	 */
+	private static double convert(double value, int sourceId, int targetId) {
+		if (sourceId == targetId) {
+			return value;
+		}
+		final DoubleConverter source = Tables.TO_SYSTEM[sourceId];
+		final DoubleConverter target = Tables.TO_SYSTEM[targetId];
+		if (Tables.SYSTEM_CLASS[sourceId] == Tables.SYSTEM_CLASS[targetId] && source.isAffine() && target.isAffine()) {
+			return (value * source.getFactor() + source.getOffset() - target.getOffset()) / target.getFactor();
+		}
+		// different system units may still be compatible, otherwise this throws
+		return DoubleConverter.of(RegisteredUnits.get(sourceId), RegisteredUnits.get(targetId)).convert(value);
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import javax.measure.Unit;
+
+import si.uom.quantity.AreaDensity;
+
+/**
+ * A {@link AreaDensity} backed by a primitive <code>double</code> value.
+ *
+ * @see si.uom.SI#KILOGRAM_PER_SQUARE_METRE
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class DoubleAreaDensity extends AbstractDoubleQuantity<AreaDensity, DoubleAreaDensity> implements AreaDensity {
+
+	DoubleAreaDensity(double value, Unit<AreaDensity> unit, Scale scale) {
+		super(value, unit, scale);
+	}
+
+	/**
+	 * Returns the absolute area density of the specified value and unit.
+	 *
+	 * @param value the primitive value.
+	 * @param unit  the unit.
+	 * @return the corresponding quantity.
+	 */
+	public static DoubleAreaDensity of(double value, Unit<AreaDensity> unit) {
+		return new DoubleAreaDensity(value, unit, Scale.ABSOLUTE);
+	}
+
+	@Override
+	DoubleAreaDensity create(double value, Unit<AreaDensity> unit, Scale scale) {
+		return new DoubleAreaDensity(value, unit, scale);
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
+
+import si.uom.quantity.Absement;
+import si.uom.quantity.Action;
+import si.uom.quantity.AngularAcceleration;
+import si.uom.quantity.AngularSpeed;
+import si.uom.quantity.AreaDensity;
+import si.uom.quantity.Density;
+import si.uom.quantity.DynamicViscosity;
+import si.uom.quantity.ElectricPermittivity;
+import si.uom.quantity.ElectricalConductivity;
+import si.uom.quantity.ElectricalResistivity;
+import si.uom.quantity.Impulse;
+import si.uom.quantity.Intensity;
+import si.uom.quantity.IonizingRadiation;
+import si.uom.quantity.KinematicViscosity;
+import si.uom.quantity.Luminance;
+import si.uom.quantity.LuminousEfficacy;
+import si.uom.quantity.MagneticFieldStrength;
+import si.uom.quantity.MagneticPermeability;
+import si.uom.quantity.MagnetomotiveForce;
+import si.uom.quantity.MassFlowRate;
+import si.uom.quantity.Momentum;
+import si.uom.quantity.Radiance;
+import si.uom.quantity.RadiantIntensity;
+import si.uom.quantity.RadiationDoseAbsorbedRate;
+import si.uom.quantity.Torque;
+import si.uom.quantity.VolumetricFlowRate;
+import si.uom.quantity.WaveNumber;
+import si.uom.spi.QuantityTypeRegistry;
+import si.uom.spi.RegisteredUnits;
+
+/**
+ * Singleton class for accessing {@link Quantity} instances backed by a
+ * primitive <code>double</code> value.
+ * <p>
+ * {@link #valueOf(double, Unit)} returns shared instances for small integer
+ * values in registered units, similar to {@link Integer#valueOf(int)}. The
+ * cached range defaults to -128 to 127 and can be configured by the system
+ * properties <code>{@value #CACHE_LOW_PROPERTY}</code> and
+ * <code>{@value #CACHE_HIGH_PROPERTY}</code>.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class DoubleQuantities {
+
+	/**
+	 * The system property setting the lowest cached value.
+	 */
+	public static final String CACHE_LOW_PROPERTY = "si.uom.quantities.cache.low";
+
+	/**
+	 * The system property setting the highest cached value, caching is disabled
+	 * if it is less than the lowest one.
+	 */
+	public static final String CACHE_HIGH_PROPERTY = "si.uom.quantities.cache.high";
+
+	private interface Factory<Q extends Quantity<Q>> {
+		AbstractDoubleQuantity<Q, ?> create(double value, Unit<Q> unit, Scale scale);
+	}
+
+	private static final Map<Class<?>, Factory<?>> FACTORIES = new IdentityHashMap<>();
+
+	/**
+	 * Holds the shared instances, created lazily per registered unit and value.
+	 */
+	private static final class ValueCache {
+
+		/**
+		 * The largest number of values cached per unit.
+		 */
+		static final int MAX_RANGE = 1 << 16;
+
+		static final int LOW = Integer.getInteger(CACHE_LOW_PROPERTY, -128);
+
+		static final int HIGH = Integer.getInteger(CACHE_HIGH_PROPERTY, 127);
+
+		static {
+			if ((long) HIGH - LOW + 1 > MAX_RANGE) {
+				throw new IllegalArgumentException("Cached range " + LOW + " to " + HIGH + " set by "
+						+ CACHE_LOW_PROPERTY + " and " + CACHE_HIGH_PROPERTY + " exceeds " + MAX_RANGE + " values");
+			}
+		}
+
+		/**
+		 * The shared instances of one unit, created by the factory of its quantity
+		 * type.
+		 */
+		static final class Row {
+			final Factory<?> factory;
+			final AbstractDoubleQuantity<?, ?>[] values = new AbstractDoubleQuantity<?, ?>[HIGH - LOW + 1];
+
+			Row(Unit<?> unit) {
+				this.factory = factoryOf(unit);
+			}
+		}
+
+		/** Rows indexed by unit ID; races only create redundant instances. */
+		static final Row[] ROWS = new Row[RegisteredUnits.getUnits().size()];
+
+		@SuppressWarnings("unchecked")
+		static <Q extends Quantity<Q>> AbstractDoubleQuantity<Q, ?> get(int unitId, int value) {
+			final Unit<Q> unit = (Unit<Q>) RegisteredUnits.get(unitId);
+			Row row = ROWS[unitId];
+			if (row == null) {
+				row = new Row(unit);
+				ROWS[unitId] = row;
+			}
+			AbstractDoubleQuantity<?, ?> quantity = row.values[value - LOW];
+			if (quantity == null) {
+				final Factory<Q> factory = (Factory<Q>) row.factory;
+				quantity = factory != null ? factory.create(value, unit, Scale.ABSOLUTE)
+						: new DefaultDoubleQuantity<>(value, unit, Scale.ABSOLUTE);
+				row.values[value - LOW] = quantity;
+			}
+			return (AbstractDoubleQuantity<Q, ?>) quantity;
+		}
+
+		/**
+		 * Returns the factory of the quantity type of a unit: the only candidate
+		 * type of its dimension, or the one whose system unit is the one of the
+		 * unit, e.g. <code>Impulse</code> for N·s and <code>Momentum</code> for
+		 * kg·m/s.
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static Factory<?> factoryOf(Unit<?> unit) {
+			final Unit<?> systemUnit = unit.getSystemUnit();
+			Factory<?> candidate = null;
+			int count = 0;
+			for (Class<? extends Quantity<?>> type : QuantityTypeRegistry.getTypes(unit)) {
+				final Factory<?> factory = FACTORIES.get(type);
+				if (factory != null) {
+					if (systemUnit.equals(QuantityTypeRegistry.getSystemUnit((Class) type))) {
+						return factory;
+					}
+					candidate = factory;
+					count++;
+				}
+			}
+			return count == 1 ? candidate : null;
+		}
+	}
+
+	static {
+		register(Absement.class, DoubleAbsement::new);
+		register(Action.class, DoubleAction::new);
+		register(AngularAcceleration.class, DoubleAngularAcceleration::new);
+		register(AngularSpeed.class, DoubleAngularSpeed::new);
+		register(AreaDensity.class, DoubleAreaDensity::new);
+		register(Density.class, DoubleDensity::new);
+		register(DynamicViscosity.class, DoubleDynamicViscosity::new);
+		register(ElectricPermittivity.class, DoubleElectricPermittivity::new);
+		register(ElectricalConductivity.class, DoubleElectricalConductivity::new);
+		register(ElectricalResistivity.class, DoubleElectricalResistivity::new);
+		register(Impulse.class, DoubleImpulse::new);
+		register(Intensity.class, DoubleIntensity::new);
+		register(IonizingRadiation.class, DoubleIonizingRadiation::new);
+		register(KinematicViscosity.class, DoubleKinematicViscosity::new);
+		register(Luminance.class, DoubleLuminance::new);
+		register(LuminousEfficacy.class, DoubleLuminousEfficacy::new);
+		register(MagneticFieldStrength.class, DoubleMagneticFieldStrength::new);
+		register(MagneticPermeability.class, DoubleMagneticPermeability::new);
+		register(MagnetomotiveForce.class, DoubleMagnetomotiveForce::new);
+		register(MassFlowRate.class, DoubleMassFlowRate::new);
+		register(Momentum.class, DoubleMomentum::new);
+		register(Radiance.class, DoubleRadiance::new);
+		register(RadiantIntensity.class, DoubleRadiantIntensity::new);
+		register(RadiationDoseAbsorbedRate.class, DoubleRadiationDoseAbsorbedRate::new);
+		register(Torque.class, DoubleTorque::new);
+		register(VolumetricFlowRate.class, DoubleVolumetricFlowRate::new);
+		register(WaveNumber.class, DoubleWaveNumber::new);
+	}
+
+	/**
+	 * Private singleton constructor.
+	 */
+	private DoubleQuantities() {
+	}
+
+	private static <Q extends Quantity<Q>> void register(Class<Q> type, Factory<Q> factory) {
+		FACTORIES.put(type, factory);
+	}
+
+	/**
+	 * Returns the absolute quantity of the specified value and unit.
+	 *
+	 * @param <Q>   the quantity type.
+	 * @param value the primitive value.
+	 * @param unit  the unit.
+	 * @return the corresponding quantity.
+	 */
+	public static <Q extends Quantity<Q>> AbstractDoubleQuantity<Q, ?> getQuantity(double value, Unit<Q> unit) {
+		return new DefaultDoubleQuantity<>(value, unit, Scale.ABSOLUTE);
+	}
+
+	/**
+	 * Returns the absolute quantity of the specified value and unit, which is a
+	 * shared instance if the unit is registered and the value is an integer in
+	 * the cached range.
+	 *
+	 * @param <Q>   the quantity type.
+	 * @param value the primitive value.
+	 * @param unit  the unit.
+	 * @return the corresponding quantity.
+	 */
+	public static <Q extends Quantity<Q>> AbstractDoubleQuantity<Q, ?> valueOf(double value, Unit<Q> unit) {
+		final int i = (int) value;
+		// excludes fractions, NaN and -0.0
+		if (i == value && i >= ValueCache.LOW && i <= ValueCache.HIGH
+				&& (i != 0 || Double.doubleToRawLongBits(value) == 0L)) {
+			final int unitId = RegisteredUnits.indexOf(unit);
+			if (unitId >= 0) {
+				return ValueCache.get(unitId, i);
+			}
+		}
+		return getQuantity(value, unit);
+	}
+
+	/**
+	 * Returns the absolute quantity of the specified value and unit, implementing
+	 * the specified quantity type if it is one of the {@link si.uom.quantity}
+	 * types.
+	 *
+	 * @param <Q>   the quantity type.
+	 * @param value the primitive value.
+	 * @param unit  the unit.
+	 * @param type  the quantity type.
+	 * @return the corresponding quantity.
+	 */
+	public static <Q extends Quantity<Q>> AbstractDoubleQuantity<Q, ?> getQuantity(double value, Unit<Q> unit,
+			Class<Q> type) {
+		return getQuantity(value, unit, Scale.ABSOLUTE, type);
+	}
+
+	static <Q extends Quantity<Q>> AbstractDoubleQuantity<Q, ?> getQuantity(double value, Unit<Q> unit, Scale scale,
+			Class<Q> type) {
+		Objects.requireNonNull(unit, "unit");
+		@SuppressWarnings("unchecked")
+		final Factory<Q> factory = (Factory<Q>) FACTORIES.get(type);
+		return factory != null ? factory.create(value, unit, scale) : new DefaultDoubleQuantity<>(value, unit, scale);
+	}
+}
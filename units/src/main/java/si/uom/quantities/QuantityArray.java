@@ -0,0 +1,410 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.function.CompensatedSum;
+import si.uom.function.DoubleConverter;
+
+/**
+ * A columnar sequence of quantities sharing a single unit, backed by a
+ * primitive <code>double[]</code>.
+ * <p>
+ * Compared to a list of quantity objects, an array only stores eight bytes per
+ * value and bulk operations run as plain loops over primitive values, which the
+ * JIT can unroll and vectorize. Conversions resolve their
+ * {@link DoubleConverter} once per array instead of once per element.
+ * </p>
+ * <p>
+ * Arrays are not copied when {@link #wrap(Unit, double[]) wrapped} or
+ * {@link #slice(int, int) sliced}; operations never modify their operands, but
+ * return new arrays.
+ * </p>
+ *
+ * @param <Q> the quantity type.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityArray<Q extends Quantity<Q>> {
+
+	private final Unit<Q> unit;
+
+	private final double[] values;
+
+	private final int offset;
+
+	private final int length;
+
+	private QuantityArray(Unit<Q> unit, double[] values, int offset, int length) {
+		this.unit = unit;
+		this.values = values;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Returns an array holding a copy of the specified values.
+	 *
+	 * @param <Q>    the quantity type.
+	 * @param unit   the unit of all values.
+	 * @param values the values.
+	 * @return the corresponding array.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> of(Unit<Q> unit, double... values) {
+		return wrap(unit, values.clone());
+	}
+
+	/**
+	 * Returns an array backed by the specified values, without copying them.
+	 *
+	 * @param <Q>    the quantity type.
+	 * @param unit   the unit of all values.
+	 * @param values the values.
+	 * @return the corresponding array.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> wrap(Unit<Q> unit, double[] values) {
+		return wrap(unit, values, 0, values.length);
+	}
+
+	/**
+	 * Returns an array backed by a range of the specified values, without copying
+	 * them.
+	 *
+	 * @param <Q>    the quantity type.
+	 * @param unit   the unit of all values.
+	 * @param values the values.
+	 * @param offset the index of the first value.
+	 * @param length the number of values.
+	 * @return the corresponding array.
+	 * @throws IndexOutOfBoundsException if the range exceeds <code>values</code>.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> wrap(Unit<Q> unit, double[] values, int offset,
+			int length) {
+		Objects.requireNonNull(unit, "unit");
+		checkRange(values.length, offset, length);
+		return new QuantityArray<>(unit, values, offset, length);
+	}
+
+	/**
+	 * Returns the unit of all values.
+	 *
+	 * @return the unit.
+	 */
+	public Unit<Q> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the number of values.
+	 *
+	 * @return the number of values.
+	 */
+	public int size() {
+		return length;
+	}
+
+	/**
+	 * Returns a value stated in {@link #getUnit()}.
+	 *
+	 * @param index the index of the value.
+	 * @return the value.
+	 * @throws IndexOutOfBoundsException if <code>index</code> is out of range.
+	 */
+	public double doubleValue(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+		}
+		return values[offset + index];
+	}
+
+	/**
+	 * Returns a value as quantity.
+	 *
+	 * @param index the index of the value.
+	 * @return the quantity.
+	 * @throws IndexOutOfBoundsException if <code>index</code> is out of range.
+	 */
+	public Quantity<Q> get(int index) {
+		return DoubleQuantities.getQuantity(doubleValue(index), unit);
+	}
+
+	/**
+	 * Returns a copy of the values stated in {@link #getUnit()}.
+	 *
+	 * @return the values.
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOfRange(values, offset, offset + length);
+	}
+
+	/**
+	 * Copies the values stated in {@link #getUnit()} to the specified array.
+	 *
+	 * @param dest       the destination array.
+	 * @param destOffset the index in <code>dest</code> of the first value.
+	 * @throws IndexOutOfBoundsException if <code>dest</code> is too short.
+	 */
+	public void copyTo(double[] dest, int destOffset) {
+		System.arraycopy(values, offset, dest, destOffset, length);
+	}
+
+	/**
+	 * Returns this array with all values stated in the specified unit.
+	 *
+	 * @param unit the unit to convert to.
+	 * @return this array if the unit is the same, otherwise a converted copy.
+	 */
+	public QuantityArray<Q> to(Unit<Q> unit) {
+		if (this.unit == unit) {
+			return this;
+		}
+		final DoubleConverter converter = DoubleConverter.of(this.unit, unit);
+		final double[] result = toDoubleArray();
+		converter.convert(result, 0, length);
+		return new QuantityArray<>(unit, result, 0, length);
+	}
+
+	/**
+	 * Returns a view of a range of this array, sharing its values.
+	 *
+	 * @param from the index of the first value, inclusive.
+	 * @param to   the index of the last value, exclusive.
+	 * @return the view.
+	 * @throws IndexOutOfBoundsException if the range is out of bounds.
+	 */
+	public QuantityArray<Q> slice(int from, int to) {
+		checkRange(length, from, to - from);
+		return new QuantityArray<>(unit, values, offset + from, to - from);
+	}
+
+	/**
+	 * Returns the element-wise sum of this array and another one, stated in
+	 * {@link #getUnit()}.
+	 *
+	 * @param addend the array to add.
+	 * @return the sums.
+	 * @throws IllegalArgumentException if the arrays differ in size.
+	 */
+	public QuantityArray<Q> add(QuantityArray<Q> addend) {
+		checkSize(addend);
+		final double[] other = addend.to(unit).values;
+		final int otherOffset = addend.unit == unit ? addend.offset : 0;
+		final double[] result = new double[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = values[offset + i] + other[otherOffset + i];
+		}
+		return new QuantityArray<>(unit, result, 0, length);
+	}
+
+	/**
+	 * Returns the compensated sum of all values stated in {@link #getUnit()},
+	 * computed in parallel for large arrays.
+	 *
+	 * @return the sum and its error bound.
+	 */
+	public CompensatedSum sum() {
+		return CompensatedSum.parallelSum(values, offset, offset + length);
+	}
+
+	/**
+	 * Returns the compensated sum of all values as quantity.
+	 *
+	 * @param unit the unit of the result.
+	 * @return the sum.
+	 */
+	public Quantity<Q> sum(Unit<Q> unit) {
+		return DoubleQuantities.getQuantity(sum().getSum(), this.unit).to(unit);
+	}
+
+	/**
+	 * Returns all values multiplied by a factor.
+	 *
+	 * @param multiplier the factor.
+	 * @return the products.
+	 */
+	public QuantityArray<Q> multiply(double multiplier) {
+		final double[] result = new double[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = values[offset + i] * multiplier;
+		}
+		return new QuantityArray<>(unit, result, 0, length);
+	}
+
+	/**
+	 * Returns the element-wise product of this array and another one, stated in
+	 * the product of both units.
+	 *
+	 * @param multiplier the array to multiply by.
+	 * @return the products.
+	 * @throws IllegalArgumentException if the arrays differ in size.
+	 */
+	public QuantityArray<?> multiply(QuantityArray<?> multiplier) {
+		return combine(multiplier, false, unit.multiply(multiplier.unit));
+	}
+
+	/**
+	 * Returns the element-wise product of this array and another one, stated in
+	 * the specified unit.
+	 *
+	 * @param <R>        the quantity type of the result.
+	 * @param multiplier the array to multiply by.
+	 * @param resultUnit the unit of the result.
+	 * @return the products.
+	 * @throws IllegalArgumentException           if the arrays differ in size.
+	 * @throws javax.measure.UnconvertibleException if the product of both units
+	 *                                            is not compatible with
+	 *                                            <code>resultUnit</code>.
+	 */
+	public <R extends Quantity<R>> QuantityArray<R> multiply(QuantityArray<?> multiplier, Unit<R> resultUnit) {
+		return combine(multiplier, false, resultUnit);
+	}
+
+	/**
+	 * Returns the element-wise quotient of this array and another one, stated in
+	 * the quotient of both units.
+	 *
+	 * @param divisor the array to divide by.
+	 * @return the quotients.
+	 * @throws IllegalArgumentException if the arrays differ in size.
+	 */
+	public QuantityArray<?> divide(QuantityArray<?> divisor) {
+		return combine(divisor, true, unit.divide(divisor.unit));
+	}
+
+	/**
+	 * Returns the element-wise quotient of this array and another one, stated in
+	 * the specified unit, e.g. a mass array divided by a volume array as
+	 * {@link si.uom.SI#KILOGRAM_PER_CUBIC_METRE density}.
+	 *
+	 * @param <R>        the quantity type of the result.
+	 * @param divisor    the array to divide by.
+	 * @param resultUnit the unit of the result.
+	 * @return the quotients.
+	 * @throws IllegalArgumentException           if the arrays differ in size.
+	 * @throws javax.measure.UnconvertibleException if the quotient of both units
+	 *                                            is not compatible with
+	 *                                            <code>resultUnit</code>.
+	 */
+	public <R extends Quantity<R>> QuantityArray<R> divide(QuantityArray<?> divisor, Unit<R> resultUnit) {
+		return combine(divisor, true, resultUnit);
+	}
+
+	private <R extends Quantity<R>> QuantityArray<R> combine(QuantityArray<?> that, boolean divide,
+			Unit<R> resultUnit) {
+		checkSize(that);
+		final Unit<?> productUnit = divide ? unit.divide(that.unit) : unit.multiply(that.unit);
+		final DoubleConverter converter = DoubleConverter.of(productUnit, resultUnit);
+		final double[] other = that.values;
+		final int otherOffset = that.offset;
+		final double[] result = new double[length];
+		if (converter.isLinear()) {
+			// the unit conversion is folded into the element-wise operation
+			final double factor = converter.getFactor();
+			if (divide) {
+				for (int i = 0; i < length; i++) {
+					result[i] = factor * values[offset + i] / other[otherOffset + i];
+				}
+			} else {
+				for (int i = 0; i < length; i++) {
+					result[i] = factor * values[offset + i] * other[otherOffset + i];
+				}
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				final double a = values[offset + i];
+				final double b = other[otherOffset + i];
+				result[i] = converter.convert(divide ? a / b : a * b);
+			}
+		}
+		return new QuantityArray<>(resultUnit, result, 0, length);
+	}
+
+	private void checkSize(QuantityArray<?> that) {
+		if (that.length != length) {
+			throw new IllegalArgumentException("Size mismatch: " + length + " and " + that.length);
+		}
+	}
+
+	private static void checkRange(int size, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > size - length) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + offset + ", " + offset + " + " + length + ") out of bounds for size " + size);
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof QuantityArray) {
+			final QuantityArray<?> that = (QuantityArray<?>) obj;
+			if (length != that.length || !unit.equals(that.unit)) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (Double.compare(values[offset + i], that.values[that.offset + i]) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = unit.hashCode();
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + Double.hashCode(values[offset + i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder().append('[');
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(values[offset + i]);
+		}
+		return sb.append("] ").append(CachedUnitFormat.getInstance().format(unit)).toString();
+	}
+}
@@ -0,0 +1,418 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.function.DoubleConverter;
+import si.uom.spi.RegisteredUnits;
+
+/**
+ * A sequence of quantities sharing a single unit, stored in a
+ * {@link ByteBuffer} outside of the Java heap.
+ * <p>
+ * The buffer starts with a fixed header of {@value #HEADER_SIZE} bytes holding
+ * the magic bytes <code>SIQB</code>, the number of values and the UTF-8 encoded
+ * unit symbol as formatted by {@link CachedUnitFormat}, followed by the values
+ * as packed little-endian <code>double</code>s. If the symbol does not parse
+ * back to the unit, because several registered units share it, the header also
+ * holds the name of the unit, which tells them apart. As the header only refers
+ * to the unit by its symbol and name, buffers can be written to and
+ * {@link #wrap(ByteBuffer) read back} from memory mapped files without any
+ * further schema.
+ * </p>
+ * <p>
+ * Instances are mutable and not thread-safe.
+ * </p>
+ *
+ * @param <Q> the quantity type.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityBuffer<Q extends Quantity<Q>> {
+
+	/**
+	 * The size of the header preceding the values, in bytes.
+	 */
+	public static final int HEADER_SIZE = 64;
+
+	private static final byte[] MAGIC = { 'S', 'I', 'Q', 'B' };
+
+	private static final int COUNT_OFFSET = 4;
+
+	private static final int SYMBOL_LENGTH_OFFSET = 8;
+
+	private static final int NAME_LENGTH_OFFSET = 10;
+
+	private static final int SYMBOL_OFFSET = 12;
+
+	private static final int MAX_UNIT_LENGTH = HEADER_SIZE - SYMBOL_OFFSET;
+
+	private final ByteBuffer buffer;
+
+	private final int capacity;
+
+	private Unit<Q> unit;
+
+	private int size;
+
+	private QuantityBuffer(ByteBuffer buffer, Unit<Q> unit, int size) {
+		this.buffer = buffer;
+		this.capacity = (buffer.capacity() - HEADER_SIZE) / Double.BYTES;
+		this.unit = unit;
+		this.size = size;
+	}
+
+	/**
+	 * Allocates an empty buffer in direct memory.
+	 *
+	 * @param <Q>      the quantity type.
+	 * @param unit     the unit of all values.
+	 * @param capacity the maximum number of values.
+	 * @return the new buffer.
+	 * @throws IllegalArgumentException if the unit does not fit into the header
+	 *                                  or the capacity is too large.
+	 */
+	public static <Q extends Quantity<Q>> QuantityBuffer<Q> allocate(Unit<Q> unit, int capacity) {
+		if (capacity < 0 || capacity > (Integer.MAX_VALUE - HEADER_SIZE) / Double.BYTES) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		return create(ByteBuffer.allocateDirect(HEADER_SIZE + capacity * Double.BYTES), unit);
+	}
+
+	/**
+	 * Returns an empty buffer using the specified memory, e.g. a memory mapped
+	 * file. The header is written at the position of <code>memory</code>.
+	 *
+	 * @param <Q>    the quantity type.
+	 * @param memory the memory to use.
+	 * @param unit   the unit of all values.
+	 * @return the new buffer.
+	 * @throws IllegalArgumentException if the unit does not fit into the header
+	 *                                  or the memory is too small.
+	 */
+	public static <Q extends Quantity<Q>> QuantityBuffer<Q> create(ByteBuffer memory, Unit<Q> unit) {
+		Objects.requireNonNull(unit, "unit");
+		final ByteBuffer buffer = memory.slice().order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.capacity() < HEADER_SIZE) {
+			throw new IllegalArgumentException("Buffer too small for header: " + buffer.capacity());
+		}
+		for (int i = 0; i < MAGIC.length; i++) {
+			buffer.put(i, MAGIC[i]);
+		}
+		final QuantityBuffer<Q> result = new QuantityBuffer<>(buffer, unit, 0);
+		result.writeUnit(unit);
+		result.writeSize();
+		return result;
+	}
+
+	/**
+	 * Returns a buffer reading its header from the specified memory.
+	 *
+	 * @param memory the memory holding a header at its position.
+	 * @return the buffer.
+	 * @throws MeasurementParseException if the memory does not start with a valid
+	 *                                   header.
+	 */
+	public static QuantityBuffer<?> wrap(ByteBuffer memory) {
+		final ByteBuffer buffer = memory.slice().order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.capacity() < HEADER_SIZE || !hasMagic(buffer)) {
+			throw new MeasurementParseException("Not a quantity buffer");
+		}
+		final int symbolLength = buffer.getShort(SYMBOL_LENGTH_OFFSET);
+		final int nameLength = buffer.getShort(NAME_LENGTH_OFFSET);
+		if (symbolLength < 0 || nameLength < 0 || symbolLength + nameLength > MAX_UNIT_LENGTH) {
+			throw new MeasurementParseException("Illegal unit length: " + symbolLength + ", " + nameLength);
+		}
+		final String symbol = readString(buffer, SYMBOL_OFFSET, symbolLength);
+		final Unit<?> unit = readUnit(symbol, readString(buffer, SYMBOL_OFFSET + symbolLength, nameLength));
+		final int size = buffer.getInt(COUNT_OFFSET);
+		if (size < 0 || size > (buffer.capacity() - HEADER_SIZE) / Double.BYTES) {
+			throw new MeasurementParseException("Illegal size: " + size);
+		}
+		return of(buffer, unit, size);
+	}
+
+	/**
+	 * Returns a buffer reading its header from the specified memory, checking
+	 * that its unit is compatible with the specified one.
+	 *
+	 * @param <Q>    the quantity type.
+	 * @param memory the memory holding a header at its position.
+	 * @param unit   a unit of the expected quantity type.
+	 * @return the buffer, still stated in the unit of its header.
+	 * @throws MeasurementParseException if the memory does not start with a valid
+	 *                                   header.
+	 * @throws UnconvertibleException    if the unit of the header is not
+	 *                                   compatible with <code>unit</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Q extends Quantity<Q>> QuantityBuffer<Q> wrap(ByteBuffer memory, Unit<Q> unit) {
+		final QuantityBuffer<?> result = wrap(memory);
+		if (!result.unit.isCompatible(unit)) {
+			throw new UnconvertibleException(result.unit + " is not compatible with " + unit);
+		}
+		return (QuantityBuffer<Q>) result;
+	}
+
+	private static boolean hasMagic(ByteBuffer buffer) {
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (buffer.get(i) != MAGIC[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String readString(ByteBuffer buffer, int offset, int length) {
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buffer.get(offset + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the unit of the specified symbol, or the registered unit of that
+	 * symbol and name if a name was written because the symbol is ambiguous.
+	 */
+	private static Unit<?> readUnit(String symbol, String name) {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance();
+		final Unit<?> unit = format.parse(symbol);
+		if (name.isEmpty() || name.equals(unit.getName())) {
+			return unit;
+		}
+		for (Unit<?> registered : RegisteredUnits.getUnits()) {
+			if (name.equals(registered.getName()) && symbol.equals(format.format(registered))) {
+				return registered;
+			}
+		}
+		throw new MeasurementParseException("Unknown unit: " + symbol + " (" + name + ")");
+	}
+
+	private static <Q extends Quantity<Q>> QuantityBuffer<Q> of(ByteBuffer buffer, Unit<Q> unit, int size) {
+		return new QuantityBuffer<>(buffer, unit, size);
+	}
+
+	/**
+	 * Returns the unit of all values.
+	 *
+	 * @return the unit.
+	 */
+	public Unit<Q> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the number of values.
+	 *
+	 * @return the number of values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of values.
+	 *
+	 * @return the capacity.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns a value stated in {@link #getUnit()}.
+	 *
+	 * @param index the index of the value.
+	 * @return the value.
+	 * @throws IndexOutOfBoundsException if <code>index</code> is out of range.
+	 */
+	public double doubleValue(int index) {
+		checkIndex(index, size);
+		return buffer.getDouble(HEADER_SIZE + index * Double.BYTES);
+	}
+
+	/**
+	 * Replaces a value.
+	 *
+	 * @param index the index of the value.
+	 * @param value the value, stated in {@link #getUnit()}.
+	 * @throws IndexOutOfBoundsException if <code>index</code> is out of range.
+	 */
+	public void set(int index, double value) {
+		checkIndex(index, size);
+		buffer.putDouble(HEADER_SIZE + index * Double.BYTES, value);
+	}
+
+	/**
+	 * Appends a value.
+	 *
+	 * @param value the value, stated in {@link #getUnit()}.
+	 * @throws IndexOutOfBoundsException if the buffer is full.
+	 */
+	public void add(double value) {
+		checkIndex(size, capacity);
+		buffer.putDouble(HEADER_SIZE + size * Double.BYTES, value);
+		size++;
+		writeSize();
+	}
+
+	/**
+	 * Appends a quantity, converted to {@link #getUnit()}.
+	 *
+	 * @param quantity the quantity.
+	 * @throws IndexOutOfBoundsException if the buffer is full.
+	 */
+	public void add(Quantity<Q> quantity) {
+		add(AbstractDoubleQuantity.valueOf(quantity, unit));
+	}
+
+	/**
+	 * Appends values from an array.
+	 *
+	 * @param values the values, stated in {@link #getUnit()}.
+	 * @param offset the index of the first value to append.
+	 * @param length the number of values to append.
+	 * @throws IndexOutOfBoundsException if the buffer is full.
+	 */
+	public void add(double[] values, int offset, int length) {
+		if (length > capacity - size) {
+			throw new IndexOutOfBoundsException("Capacity exceeded: " + capacity);
+		}
+		final ByteBuffer target = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		target.position(HEADER_SIZE + size * Double.BYTES);
+		target.asDoubleBuffer().put(values, offset, length);
+		size += length;
+		writeSize();
+	}
+
+	/**
+	 * Converts all values to the specified unit, in place.
+	 *
+	 * @param unit the unit to convert to.
+	 * @return this buffer, now stated in <code>unit</code>.
+	 * @throws IllegalArgumentException if the unit does not fit into the header.
+	 */
+	public QuantityBuffer<Q> to(Unit<Q> unit) {
+		if (this.unit == unit) {
+			return this;
+		}
+		final DoubleConverter converter = DoubleConverter.of(this.unit, unit);
+		writeUnit(unit);
+		final double factor = converter.getFactor();
+		final double offset = converter.getOffset();
+		final boolean affine = converter.isAffine();
+		for (int i = 0, pos = HEADER_SIZE; i < size; i++, pos += Double.BYTES) {
+			final double value = buffer.getDouble(pos);
+			buffer.putDouble(pos, affine ? value * factor + offset : converter.convert(value));
+		}
+		return this;
+	}
+
+	/**
+	 * Copies the values stated in {@link #getUnit()} to the heap.
+	 *
+	 * @return the values.
+	 */
+	public QuantityArray<Q> toQuantityArray() {
+		final double[] values = new double[size];
+		final ByteBuffer source = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		source.position(HEADER_SIZE);
+		source.asDoubleBuffer().get(values);
+		return QuantityArray.wrap(unit, values);
+	}
+
+	/**
+	 * Returns the underlying memory including the header, e.g. for writing it to
+	 * a channel.
+	 *
+	 * @return a view of the memory, limited to the current size.
+	 */
+	public ByteBuffer getBuffer() {
+		final ByteBuffer result = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		result.position(0).limit(HEADER_SIZE + size * Double.BYTES);
+		return result;
+	}
+
+	private void writeUnit(Unit<Q> unit) {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance();
+		final String text = format.format(unit);
+		final byte[] symbol = text.getBytes(StandardCharsets.UTF_8);
+		final byte[] name = isAmbiguous(format, text, unit) && unit.getName() != null
+				? unit.getName().getBytes(StandardCharsets.UTF_8)
+				: new byte[0];
+		if (symbol.length + name.length > MAX_UNIT_LENGTH) {
+			throw new IllegalArgumentException("Unit exceeds " + MAX_UNIT_LENGTH + " bytes: " + unit);
+		}
+		buffer.putShort(SYMBOL_LENGTH_OFFSET, (short) symbol.length);
+		buffer.putShort(NAME_LENGTH_OFFSET, (short) name.length);
+		for (int i = 0; i < MAX_UNIT_LENGTH; i++) {
+			final byte b = i < symbol.length ? symbol[i]
+					: i < symbol.length + name.length ? name[i - symbol.length] : 0;
+			buffer.put(SYMBOL_OFFSET + i, b);
+		}
+		this.unit = unit;
+	}
+
+	private static boolean isAmbiguous(CachedUnitFormat format, String symbol, Unit<?> unit) {
+		try {
+			return !unit.equals(format.parse(symbol));
+		} catch (MeasurementParseException e) {
+			return true;
+		}
+	}
+
+	private void writeSize() {
+		buffer.putInt(COUNT_OFFSET, size);
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "QuantityBuffer[" + size + "/" + capacity + " " + CachedUnitFormat.getInstance().format(unit) + "]";
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static tech.units.indriya.unit.UnitDimension.AMOUNT_OF_SUBSTANCE;
+import static tech.units.indriya.unit.UnitDimension.ELECTRIC_CURRENT;
+import static tech.units.indriya.unit.UnitDimension.LENGTH;
+import static tech.units.indriya.unit.UnitDimension.LUMINOUS_INTENSITY;
+import static tech.units.indriya.unit.UnitDimension.MASS;
+import static tech.units.indriya.unit.UnitDimension.TEMPERATURE;
+import static tech.units.indriya.unit.UnitDimension.TIME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Dimension;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * Indexes all {@link RegisteredUnits registered units} by their dimension, so
+ * the units compatible with a given unit are found without scanning the
+ * registry.
+ * <p>
+ * Dimensions are {@link #pack(Dimension) packed} into a <code>long</code>
+ * holding the exponent of each of the seven SI base dimensions in one byte,
+ * which is the key of an open addressing hash table built once.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class DimensionIndex {
+
+	/**
+	 * The value returned by {@link #pack(Dimension)} for dimensions which cannot
+	 * be packed.
+	 */
+	public static final long NOT_PACKABLE = Long.MIN_VALUE;
+
+	private static final Dimension[] BASE_DIMENSIONS = { LENGTH, MASS, TIME, ELECTRIC_CURRENT, TEMPERATURE,
+			AMOUNT_OF_SUBSTANCE, LUMINOUS_INTENSITY };
+
+	private static final long[] KEYS;
+
+	private static final List<?>[] VALUES;
+
+	private static final int MASK;
+
+	/**
+	 * Units of dimensions which cannot be packed.
+	 */
+	private static final Map<Dimension, List<Unit<?>>> OTHERS = new HashMap<>();
+
+	static {
+		final Map<Long, List<Unit<?>>> packed = new LinkedHashMap<>();
+		final Map<Dimension, List<Unit<?>>> others = new LinkedHashMap<>();
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			final Dimension dimension = unit.getDimension();
+			final long key = pack(dimension);
+			if (key == NOT_PACKABLE) {
+				others.computeIfAbsent(dimension, d -> new ArrayList<>()).add(unit);
+			} else {
+				packed.computeIfAbsent(key, k -> new ArrayList<>()).add(unit);
+			}
+		}
+		int capacity = Integer.highestOneBit(Math.max(packed.size(), 1) * 4 - 1) << 1;
+		MASK = capacity - 1;
+		KEYS = new long[capacity];
+		VALUES = new List<?>[capacity];
+		for (Map.Entry<Long, List<Unit<?>>> entry : packed.entrySet()) {
+			int slot = slotOf(entry.getKey());
+			while (VALUES[slot] != null) {
+				slot = (slot + 1) & MASK;
+			}
+			KEYS[slot] = entry.getKey();
+			VALUES[slot] = Collections.unmodifiableList(entry.getValue());
+		}
+		for (Map.Entry<Dimension, List<Unit<?>>> entry : others.entrySet()) {
+			OTHERS.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private DimensionIndex() {
+	}
+
+	/**
+	 * Packs a dimension into a <code>long</code>, holding the exponent of each SI
+	 * base dimension in one byte.
+	 *
+	 * @param dimension the dimension.
+	 * @return the packed dimension, or {@link #NOT_PACKABLE} if the dimension is
+	 *         not a product of SI base dimensions with exponents from -128 to
+	 *         127.
+	 */
+	public static long pack(Dimension dimension) {
+		final Map<? extends Dimension, Integer> base = dimension.getBaseDimensions();
+		if (base == null) {
+			final int index = indexOf(dimension);
+			return index < 0 ? NOT_PACKABLE : 1L << (8 * index);
+		}
+		long packed = 0;
+		for (Map.Entry<? extends Dimension, Integer> entry : base.entrySet()) {
+			final int index = indexOf(entry.getKey());
+			final int exponent = entry.getValue();
+			if (index < 0 || exponent < Byte.MIN_VALUE || exponent > Byte.MAX_VALUE) {
+				return NOT_PACKABLE;
+			}
+			packed |= (exponent & 0xFFL) << (8 * index);
+		}
+		return packed;
+	}
+
+	/**
+	 * Returns all registered units of the specified dimension.
+	 *
+	 * @param dimension the dimension.
+	 * @return the unmodifiable list of units, in the order of
+	 *         {@link RegisteredUnits#getUnits()}.
+	 */
+	public static List<Unit<?>> getUnits(Dimension dimension) {
+		final long key = pack(dimension);
+		if (key == NOT_PACKABLE) {
+			final List<Unit<?>> units = OTHERS.get(dimension);
+			return units != null ? units : Collections.<Unit<?>>emptyList();
+		}
+		return getUnits(key);
+	}
+
+	/**
+	 * Returns all registered units of the specified packed dimension.
+	 *
+	 * @param packedDimension the packed dimension.
+	 * @return the unmodifiable list of units, in the order of
+	 *         {@link RegisteredUnits#getUnits()}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Unit<?>> getUnits(long packedDimension) {
+		int slot = slotOf(packedDimension);
+		while (VALUES[slot] != null) {
+			if (KEYS[slot] == packedDimension) {
+				return (List<Unit<?>>) VALUES[slot];
+			}
+			slot = (slot + 1) & MASK;
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns all registered units of the same dimension as the specified unit.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit.
+	 * @return the unmodifiable list of units, in the order of
+	 *         {@link RegisteredUnits#getUnits()}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <Q extends Quantity<Q>> List<Unit<Q>> getCompatibleUnits(Unit<Q> unit) {
+		return (List) getUnits(unit.getDimension());
+	}
+
+	private static int indexOf(Dimension dimension) {
+		for (int i = 0; i < BASE_DIMENSIONS.length; i++) {
+			if (BASE_DIMENSIONS[i].equals(dimension)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int slotOf(long key) {
+		final long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & MASK;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.format.CachedUnitFormat;
+import si.uom.function.DoubleConverter;
+import tech.units.indriya.format.SimpleUnitFormat;
+
+/**
+ * Provides shared instances of the {@link MetricPrefix metric prefixed}
+ * variants of all {@link RegisteredUnits registered units}, together with their
+ * labels and converters.
+ * <p>
+ * Applying a prefix to a unit creates a new unit each time; this table creates
+ * each prefixed variant of a registered unit only once, on first use.
+ * </p>
+ * <p>
+ * The label of a prefixed compound unit, e.g. <code>"µS/m"</code> rather than
+ * <code>"µ(S/m)"</code>, is registered with {@link CachedUnitFormat} and thus
+ * with {@link SimpleUnitFormat} when the variant is first created, unless it
+ * would be parsed as a different unit.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class PrefixedUnits {
+
+	private static final MetricPrefix[] PREFIXES = MetricPrefix.values();
+
+	/**
+	 * Entries by unit ID and prefix ordinal, created lazily.
+	 */
+	private static final AtomicReferenceArray<Entry> ENTRIES = new AtomicReferenceArray<>(
+			RegisteredUnits.getUnits().size() * PREFIXES.length);
+
+	/**
+	 * A prefixed variant of a registered unit.
+	 */
+	private static final class Entry {
+		private final Unit<?> unit;
+		private final String label;
+		private final boolean labeled;
+		private final DoubleConverter toBase;
+
+		private Entry(Unit<?> base, MetricPrefix prefix) {
+			this.unit = base.prefix(prefix);
+			final SimpleUnitFormat format = SimpleUnitFormat.getInstance();
+			final String formatted = format.format(unit);
+			final String symbol = format.format(base);
+			final String candidate = prefix.getSymbol() + symbol;
+			if (isPrefixable(symbol) && denotes(candidate, unit)) {
+				this.label = candidate;
+				// e.g. "µ(S/m)", whereas "μm" only differs by the micro sign
+				this.labeled = !formatted.endsWith(symbol);
+			} else {
+				this.label = formatted;
+				this.labeled = false;
+			}
+			this.toBase = DoubleConverter.of(unit, base);
+		}
+
+		/**
+		 * Registers the label, unless the underlying format already renders the
+		 * unit with its prefix symbol followed by the symbol of the base unit.
+		 */
+		private void register() {
+			if (labeled) {
+				try {
+					CachedUnitFormat.getInstance().label(unit, label);
+				} catch (IllegalArgumentException e) {
+					// not a valid label of the underlying format
+				}
+			}
+		}
+	}
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private PrefixedUnits() {
+	}
+
+	/**
+	 * Returns the specified unit with a metric prefix.
+	 *
+	 * @param <Q>    the quantity type.
+	 * @param unit   the unit.
+	 * @param prefix the prefix.
+	 * @return the shared prefixed unit if <code>unit</code> is registered,
+	 *         otherwise <code>unit.prefix(prefix)</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Q extends Quantity<Q>> Unit<Q> get(Unit<Q> unit, MetricPrefix prefix) {
+		final Entry entry = entryOf(unit, prefix);
+		return entry != null ? (Unit<Q>) entry.unit : unit.prefix(prefix);
+	}
+
+	/**
+	 * Returns the label of the specified unit with a metric prefix.
+	 *
+	 * @param unit   the unit.
+	 * @param prefix the prefix.
+	 * @return the label, e.g. <code>"Mt"</code> for {@link si.uom.NonSI#TONNE}
+	 *         and {@link MetricPrefix#MEGA}.
+	 */
+	public static String getLabel(Unit<?> unit, MetricPrefix prefix) {
+		final Entry entry = entryOf(unit, prefix);
+		return entry != null ? entry.label : new Entry(unit, prefix).label;
+	}
+
+	/**
+	 * Returns the converter from the specified unit with a metric prefix to the
+	 * unit itself.
+	 *
+	 * @param unit   the unit.
+	 * @param prefix the prefix.
+	 * @return the converter from the prefixed unit to <code>unit</code>.
+	 */
+	public static DoubleConverter getConverter(Unit<?> unit, MetricPrefix prefix) {
+		final Entry entry = entryOf(unit, prefix);
+		return entry != null ? entry.toBase : DoubleConverter.of(unit.prefix(prefix), unit);
+	}
+
+	private static Entry entryOf(Unit<?> unit, MetricPrefix prefix) {
+		final int id = RegisteredUnits.indexOf(unit);
+		if (id < 0) {
+			return null;
+		}
+		final int index = id * PREFIXES.length + prefix.ordinal();
+		Entry entry = ENTRIES.get(index);
+		if (entry == null) {
+			final Entry created = new Entry(RegisteredUnits.get(id), prefix);
+			if (ENTRIES.compareAndSet(index, null, created)) {
+				created.register();
+			}
+			entry = ENTRIES.get(index);
+		}
+		return entry;
+	}
+
+	/**
+	 * Indicates if a label is either not parsed yet, or parsed as a unit
+	 * equivalent to the specified one.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static boolean denotes(String label, Unit<?> unit) {
+		final Unit parsed;
+		try {
+			parsed = SimpleUnitFormat.getInstance().parse(label);
+		} catch (RuntimeException e) {
+			return true;
+		}
+		return parsed == null || parsed.isEquivalentTo(unit);
+	}
+
+	/**
+	 * Indicates if a prefix can be prepended to a formatted unit, i.e. it starts
+	 * with the symbol of a registered unit other than the already prefixed
+	 * kilogram, which is either the whole unit or followed by a product or
+	 * quotient operator, e.g. <code>"S/m"</code> but neither <code>"m²/s"</code>
+	 * nor <code>"km/h"</code>.
+	 */
+	private static boolean isPrefixable(String symbol) {
+		int i = 0;
+		while (i < symbol.length()) {
+			final char c = symbol.charAt(i);
+			if (!Character.isLetter(c) && Character.getType(c) != Character.OTHER_SYMBOL) {
+				break;
+			}
+			i++;
+		}
+		if (i == 0 || symbol.startsWith("kg") && i == 2) {
+			return false;
+		}
+		if (i < symbol.length() && "/·⋅*".indexOf(symbol.charAt(i)) < 0) {
+			return false;
+		}
+		try {
+			return RegisteredUnits.indexOf(SimpleUnitFormat.getInstance().parse(symbol.substring(0, i))) >= 0;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,406 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static tech.units.indriya.unit.Units.AMPERE;
+import static tech.units.indriya.unit.Units.BECQUEREL;
+import static tech.units.indriya.unit.Units.CANDELA;
+import static tech.units.indriya.unit.Units.COULOMB;
+import static tech.units.indriya.unit.Units.CUBIC_METRE;
+import static tech.units.indriya.unit.Units.FARAD;
+import static tech.units.indriya.unit.Units.GRAY;
+import static tech.units.indriya.unit.Units.HENRY;
+import static tech.units.indriya.unit.Units.HERTZ;
+import static tech.units.indriya.unit.Units.JOULE;
+import static tech.units.indriya.unit.Units.KATAL;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.KILOGRAM;
+import static tech.units.indriya.unit.Units.LUMEN;
+import static tech.units.indriya.unit.Units.LUX;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+import static tech.units.indriya.unit.Units.METRE_PER_SQUARE_SECOND;
+import static tech.units.indriya.unit.Units.MOLE;
+import static tech.units.indriya.unit.Units.NEWTON;
+import static tech.units.indriya.unit.Units.OHM;
+import static tech.units.indriya.unit.Units.PASCAL;
+import static tech.units.indriya.unit.Units.RADIAN;
+import static tech.units.indriya.unit.Units.SECOND;
+import static tech.units.indriya.unit.Units.SIEMENS;
+import static tech.units.indriya.unit.Units.SIEVERT;
+import static tech.units.indriya.unit.Units.SQUARE_METRE;
+import static tech.units.indriya.unit.Units.STERADIAN;
+import static tech.units.indriya.unit.Units.TESLA;
+import static tech.units.indriya.unit.Units.VOLT;
+import static tech.units.indriya.unit.Units.WATT;
+import static tech.units.indriya.unit.Units.WEBER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Dimension;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Acceleration;
+import javax.measure.quantity.AmountOfSubstance;
+import javax.measure.quantity.Angle;
+import javax.measure.quantity.Area;
+import javax.measure.quantity.CatalyticActivity;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.ElectricCapacitance;
+import javax.measure.quantity.ElectricCharge;
+import javax.measure.quantity.ElectricConductance;
+import javax.measure.quantity.ElectricCurrent;
+import javax.measure.quantity.ElectricInductance;
+import javax.measure.quantity.ElectricPotential;
+import javax.measure.quantity.ElectricResistance;
+import javax.measure.quantity.Energy;
+import javax.measure.quantity.Force;
+import javax.measure.quantity.Frequency;
+import javax.measure.quantity.Illuminance;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.LuminousFlux;
+import javax.measure.quantity.LuminousIntensity;
+import javax.measure.quantity.MagneticFlux;
+import javax.measure.quantity.MagneticFluxDensity;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Power;
+import javax.measure.quantity.Pressure;
+import javax.measure.quantity.RadiationDoseAbsorbed;
+import javax.measure.quantity.RadiationDoseEffective;
+import javax.measure.quantity.Radioactivity;
+import javax.measure.quantity.SolidAngle;
+import javax.measure.quantity.Speed;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+import javax.measure.quantity.Volume;
+
+import si.uom.SI;
+import si.uom.quantity.Absement;
+import si.uom.quantity.Action;
+import si.uom.quantity.AngularAcceleration;
+import si.uom.quantity.AngularSpeed;
+import si.uom.quantity.AreaDensity;
+import si.uom.quantity.Density;
+import si.uom.quantity.DynamicViscosity;
+import si.uom.quantity.ElectricPermittivity;
+import si.uom.quantity.ElectricalConductivity;
+import si.uom.quantity.ElectricalResistivity;
+import si.uom.quantity.Impulse;
+import si.uom.quantity.Intensity;
+import si.uom.quantity.IonizingRadiation;
+import si.uom.quantity.KinematicViscosity;
+import si.uom.quantity.Luminance;
+import si.uom.quantity.LuminousEfficacy;
+import si.uom.quantity.MagneticFieldStrength;
+import si.uom.quantity.MagneticPermeability;
+import si.uom.quantity.MagnetomotiveForce;
+import si.uom.quantity.MassFlowRate;
+import si.uom.quantity.Momentum;
+import si.uom.quantity.Radiance;
+import si.uom.quantity.RadiantIntensity;
+import si.uom.quantity.RadiationDoseAbsorbedRate;
+import si.uom.quantity.Torque;
+import si.uom.quantity.VolumetricFlowRate;
+import si.uom.quantity.WaveNumber;
+import tech.units.indriya.AbstractUnit;
+
+/**
+ * Provides the metadata of the quantity types of <code>javax.measure.quantity</code>
+ * and <code>si.uom.quantity</code> in constant time, and maps units back to
+ * their candidate quantity types.
+ * <p>
+ * The metadata is built once from a static table of types and their system
+ * units, without looking up types in a {@link javax.measure.spi.SystemOfUnits}
+ * and without reflection. Types sharing a dimension are <em>related</em>, e.g.
+ * {@link Impulse} and {@link Momentum}, or {@link Energy} and {@link Torque}.
+ * </p>
+ * <p>
+ * {@link si.uom.quantity.Level} is not listed, as it is a logarithmic quantity
+ * without a linear system unit.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class QuantityTypeRegistry {
+
+	/**
+	 * The metadata of a quantity type.
+	 *
+	 * @param <Q> the quantity type.
+	 */
+	public static final class Metadata<Q extends Quantity<Q>> {
+		private final Class<Q> type;
+		private final Unit<Q> systemUnit;
+		private final long packedDimension;
+		private List<Class<? extends Quantity<?>>> relatedTypes;
+
+		private Metadata(Class<Q> type, Unit<Q> systemUnit) {
+			this.type = type;
+			this.systemUnit = systemUnit;
+			this.packedDimension = DimensionIndex.pack(systemUnit.getDimension());
+		}
+
+		/**
+		 * Returns the quantity type.
+		 *
+		 * @return the quantity type.
+		 */
+		public Class<Q> getType() {
+			return type;
+		}
+
+		/**
+		 * Returns the system unit of the quantity type.
+		 *
+		 * @return the system unit.
+		 */
+		public Unit<Q> getSystemUnit() {
+			return systemUnit;
+		}
+
+		/**
+		 * Returns the dimension of the quantity type.
+		 *
+		 * @return the dimension.
+		 */
+		public Dimension getDimension() {
+			return systemUnit.getDimension();
+		}
+
+		/**
+		 * Returns the {@link DimensionIndex#pack(Dimension) packed} dimension of
+		 * the quantity type.
+		 *
+		 * @return the packed dimension.
+		 */
+		public long getPackedDimension() {
+			return packedDimension;
+		}
+
+		/**
+		 * Returns the other quantity types of the same dimension.
+		 *
+		 * @return the unmodifiable list of related types.
+		 */
+		public List<Class<? extends Quantity<?>>> getRelatedTypes() {
+			return relatedTypes;
+		}
+
+		@Override
+		public String toString() {
+			return type.getSimpleName() + " [" + systemUnit + "]";
+		}
+	}
+
+	private static final Map<Class<?>, Metadata<?>> BY_TYPE = new IdentityHashMap<>();
+
+	private static final Map<Long, List<Class<? extends Quantity<?>>>> BY_DIMENSION = new HashMap<>();
+
+	/**
+	 * The candidate types of each registered unit, indexed by unit ID.
+	 */
+	private static final List<?>[] BY_UNIT_ID;
+
+	static {
+		register(Acceleration.class, METRE_PER_SQUARE_SECOND);
+		register(AmountOfSubstance.class, MOLE);
+		register(Angle.class, RADIAN);
+		register(Area.class, SQUARE_METRE);
+		register(CatalyticActivity.class, KATAL);
+		register(Dimensionless.class, AbstractUnit.ONE);
+		register(ElectricCapacitance.class, FARAD);
+		register(ElectricCharge.class, COULOMB);
+		register(ElectricConductance.class, SIEMENS);
+		register(ElectricCurrent.class, AMPERE);
+		register(ElectricInductance.class, HENRY);
+		register(ElectricPotential.class, VOLT);
+		register(ElectricResistance.class, OHM);
+		register(Energy.class, JOULE);
+		register(Force.class, NEWTON);
+		register(Frequency.class, HERTZ);
+		register(Illuminance.class, LUX);
+		register(Length.class, METRE);
+		register(LuminousFlux.class, LUMEN);
+		register(LuminousIntensity.class, CANDELA);
+		register(MagneticFlux.class, WEBER);
+		register(MagneticFluxDensity.class, TESLA);
+		register(Mass.class, KILOGRAM);
+		register(Power.class, WATT);
+		register(Pressure.class, PASCAL);
+		register(RadiationDoseAbsorbed.class, GRAY);
+		register(RadiationDoseEffective.class, SIEVERT);
+		register(Radioactivity.class, BECQUEREL);
+		register(SolidAngle.class, STERADIAN);
+		register(Speed.class, METRE_PER_SECOND);
+		register(Temperature.class, KELVIN);
+		register(Time.class, SECOND);
+		register(Volume.class, CUBIC_METRE);
+
+		register(Absement.class, SI.METRE_SECOND);
+		register(Action.class, SI.JOULE_SECOND);
+		register(AngularAcceleration.class, SI.RADIAN_PER_SQUARE_SECOND);
+		register(AngularSpeed.class, SI.RADIAN_PER_SECOND);
+		register(AreaDensity.class, SI.KILOGRAM_PER_SQUARE_METRE);
+		register(Density.class, SI.KILOGRAM_PER_CUBIC_METRE);
+		register(DynamicViscosity.class, SI.PASCAL_SECOND);
+		register(ElectricPermittivity.class, SI.FARAD_PER_METRE);
+		register(ElectricalConductivity.class, SI.SIEMENS_PER_METRE);
+		register(ElectricalResistivity.class, SI.OHM_METRE);
+		register(Impulse.class, SI.NEWTON_SECOND);
+		register(Intensity.class, SI.WATT_PER_SQUARE_METRE);
+		register(IonizingRadiation.class, SI.COULOMB_PER_KILOGRAM);
+		register(KinematicViscosity.class, SI.SQUARE_METRE_PER_SECOND);
+		register(Luminance.class, SI.CANDELA_PER_SQUARE_METRE);
+		register(LuminousEfficacy.class, LUMEN.divide(WATT).asType(LuminousEfficacy.class));
+		register(MagneticFieldStrength.class, SI.AMPERE_PER_METRE);
+		register(MagneticPermeability.class, SI.NEWTON_PER_SQUARE_AMPERE);
+		register(MagnetomotiveForce.class, SI.AMPERE_TURN);
+		register(MassFlowRate.class, SI.KILOGRAM_PER_SECOND);
+		register(Momentum.class, SI.KILOGRAM_METRE_PER_SECOND);
+		register(Radiance.class, SI.WATT_PER_STERADIAN_PER_SQUARE_METRE);
+		register(RadiantIntensity.class, SI.WATT_PER_STERADIAN);
+		register(RadiationDoseAbsorbedRate.class, SI.GRAY_PER_SECOND);
+		register(Torque.class, NEWTON.multiply(METRE).asType(Torque.class));
+		register(VolumetricFlowRate.class, CUBIC_METRE.divide(SECOND).asType(VolumetricFlowRate.class));
+		register(WaveNumber.class, SI.RECIPROCAL_METRE);
+
+		final Map<Long, List<Class<? extends Quantity<?>>>> byDimension = new LinkedHashMap<>();
+		for (Metadata<?> metadata : BY_TYPE.values()) {
+			byDimension.computeIfAbsent(metadata.packedDimension, k -> new ArrayList<>()).add(metadata.type);
+		}
+		for (Map.Entry<Long, List<Class<? extends Quantity<?>>>> entry : byDimension.entrySet()) {
+			Collections.sort(entry.getValue(), (c1, c2) -> c1.getSimpleName().compareTo(c2.getSimpleName()));
+			BY_DIMENSION.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+		}
+		for (Metadata<?> metadata : BY_TYPE.values()) {
+			final List<Class<? extends Quantity<?>>> related = new ArrayList<>(
+					BY_DIMENSION.get(metadata.packedDimension));
+			related.remove(metadata.type);
+			metadata.relatedTypes = Collections.unmodifiableList(related);
+		}
+
+		final List<Unit<?>> units = RegisteredUnits.getUnits();
+		BY_UNIT_ID = new List<?>[units.size()];
+		for (int i = 0; i < BY_UNIT_ID.length; i++) {
+			BY_UNIT_ID[i] = typesOf(DimensionIndex.pack(units.get(i).getDimension()));
+		}
+	}
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private QuantityTypeRegistry() {
+	}
+
+	private static <Q extends Quantity<Q>> void register(Class<Q> type, Unit<Q> systemUnit) {
+		BY_TYPE.put(type, new Metadata<>(type, systemUnit));
+	}
+
+	/**
+	 * Returns the metadata of the specified quantity type.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param type the quantity type.
+	 * @return the metadata, or <code>null</code> if the type is not known.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Q extends Quantity<Q>> Metadata<Q> get(Class<Q> type) {
+		return (Metadata<Q>) BY_TYPE.get(type);
+	}
+
+	/**
+	 * Returns the system unit of the specified quantity type.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param type the quantity type.
+	 * @return the system unit, or <code>null</code> if the type is not known.
+	 */
+	public static <Q extends Quantity<Q>> Unit<Q> getSystemUnit(Class<Q> type) {
+		final Metadata<Q> metadata = get(type);
+		return metadata != null ? metadata.systemUnit : null;
+	}
+
+	/**
+	 * Returns the dimension of the specified quantity type.
+	 *
+	 * @param type the quantity type.
+	 * @return the dimension, or <code>null</code> if the type is not known.
+	 */
+	public static Dimension getDimension(Class<? extends Quantity<?>> type) {
+		final Metadata<?> metadata = BY_TYPE.get(type);
+		return metadata != null ? metadata.getDimension() : null;
+	}
+
+	/**
+	 * Returns all known quantity types.
+	 *
+	 * @return the unmodifiable list of quantity types, in no particular order.
+	 */
+	public static List<Class<? extends Quantity<?>>> getTypes() {
+		final List<Class<? extends Quantity<?>>> types = new ArrayList<>(BY_TYPE.size());
+		for (Metadata<?> metadata : BY_TYPE.values()) {
+			types.add(metadata.type);
+		}
+		return Collections.unmodifiableList(types);
+	}
+
+	/**
+	 * Returns the candidate quantity types of the specified unit, i.e. all known
+	 * types of its dimension.
+	 *
+	 * @param unit the unit.
+	 * @return the unmodifiable list of types, ordered by simple name, e.g.
+	 *         {@link Impulse} and {@link Momentum} for N·s.
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Class<? extends Quantity<?>>> getTypes(Unit<?> unit) {
+		final int id = RegisteredUnits.indexOf(unit);
+		if (id >= 0) {
+			return (List<Class<? extends Quantity<?>>>) BY_UNIT_ID[id];
+		}
+		return typesOf(DimensionIndex.pack(unit.getDimension()));
+	}
+
+	private static List<Class<? extends Quantity<?>>> typesOf(long packedDimension) {
+		if (packedDimension == DimensionIndex.NOT_PACKABLE) {
+			return Collections.emptyList();
+		}
+		final List<Class<? extends Quantity<?>>> types = BY_DIMENSION.get(packedDimension);
+		return types != null ? types : Collections.<Class<? extends Quantity<?>>>emptyList();
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.measure.Unit;
+import javax.measure.spi.SystemOfUnits;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Provides a fixed, ordered view of all units registered by {@link Units},
+ * {@link SI} and {@link NonSI}.<br>
+ * The view is computed once and is used by caches and indexes which precompute
+ * data for registered units. The position of a unit in this view is its
+ * <em>unit ID</em>, a small integer which may replace references to the unit
+ * in compact representations.<br>
+ * Units of equal names and symbols are ordered by their string
+ * representation, which depends on the labels of the default unit format when
+ * this class is initialized. Unit IDs are therefore only valid within one
+ * version of the library and one label setup, and should not be persisted or
+ * exchanged.<br>
+ * The hash code of each registered unit is computed once, so that
+ * {@link #hashCode(Unit)} and {@link #equals(Unit, Unit)} of registered units
+ * are an array access and an <code>int</code> comparison.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class RegisteredUnits {
+
+	/**
+	 * Orders units of a system independently from the iteration order of its
+	 * underlying set. The final tiebreak on the string representation depends
+	 * on the labels of the default unit format.
+	 */
+	private static final Comparator<Unit<?>> ORDER = new Comparator<Unit<?>>() {
+		@Override
+		public int compare(Unit<?> u1, Unit<?> u2) {
+			int c = compareNullable(u1.getName(), u2.getName());
+			if (c == 0) {
+				c = compareNullable(u1.getSymbol(), u2.getSymbol());
+			}
+			if (c == 0) {
+				c = String.valueOf(u1).compareTo(String.valueOf(u2));
+			}
+			return c;
+		}
+	};
+
+	private static final List<Unit<?>> UNITS;
+
+	private static final Map<Unit<?>, Integer> IDENTITIES;
+
+	private static final Map<Unit<?>, Integer> EQUALITIES;
+
+	private static final int[] HASH_CODES;
+
+	static {
+		final Set<Unit<?>> units = new LinkedHashSet<>();
+		addSystem(units, Units.getInstance());
+		addSystem(units, SI.getInstance());
+		addSystem(units, NonSI.getInstance());
+		UNITS = Collections.unmodifiableList(new ArrayList<>(units));
+		IDENTITIES = new IdentityHashMap<>(UNITS.size() * 2);
+		EQUALITIES = new HashMap<>(UNITS.size() * 2);
+		HASH_CODES = new int[UNITS.size()];
+		for (int i = 0; i < UNITS.size(); i++) {
+			IDENTITIES.put(UNITS.get(i), i);
+			EQUALITIES.put(UNITS.get(i), i);
+			HASH_CODES[i] = UNITS.get(i).hashCode();
+		}
+	}
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private RegisteredUnits() {
+	}
+
+	/**
+	 * Returns all registered units, without duplicates, in the order of their
+	 * unit IDs.
+	 *
+	 * @return the unmodifiable list of registered units.
+	 */
+	public static List<Unit<?>> getUnits() {
+		return UNITS;
+	}
+
+	/**
+	 * Indicates if the specified unit is (or is equal to) a registered unit.
+	 *
+	 * @param unit the unit to check.
+	 * @return <code>true</code> if the unit is registered; <code>false</code>
+	 *         otherwise.
+	 */
+	public static boolean isRegistered(Unit<?> unit) {
+		return indexOf(unit) >= 0;
+	}
+
+	/**
+	 * Returns the unit ID of the specified unit.
+	 *
+	 * @param unit the unit to look up.
+	 * @return the index of the unit (or of a registered unit equal to it) in
+	 *         {@link #getUnits()}, or <code>-1</code> if the unit is not
+	 *         registered.
+	 */
+	public static int indexOf(Unit<?> unit) {
+		if (unit == null) {
+			return -1;
+		}
+		Integer id = IDENTITIES.get(unit);
+		if (id == null) {
+			id = EQUALITIES.get(unit);
+		}
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * Returns the unit ID of the specified unit, if it is the registered
+	 * instance itself.<br>
+	 * Unlike {@link #indexOf(Unit)}, this lookup never computes the hash code
+	 * of the unit, so it suits fast paths which fall back to hashing anyway.
+	 *
+	 * @param unit the unit to look up.
+	 * @return the index of the unit in {@link #getUnits()}, or <code>-1</code>
+	 *         if the unit is not a registered instance.
+	 */
+	public static int indexOfInstance(Unit<?> unit) {
+		final Integer id = IDENTITIES.get(unit);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * Returns the registered unit with the specified unit ID.
+	 *
+	 * @param id the unit ID.
+	 * @return the registered unit.
+	 * @throws IndexOutOfBoundsException if <code>id</code> is not a valid unit ID.
+	 */
+	public static Unit<?> get(int id) {
+		return UNITS.get(id);
+	}
+
+	/**
+	 * Returns the hash code of the specified unit.
+	 *
+	 * @param unit the unit, may be <code>null</code>.
+	 * @return the precomputed hash code if the unit is registered,
+	 *         <code>unit.hashCode()</code> otherwise, or <code>0</code> for
+	 *         <code>null</code>.
+	 */
+	public static int hashCode(Unit<?> unit) {
+		if (unit == null) {
+			return 0;
+		}
+		final Integer id = IDENTITIES.get(unit);
+		return id != null ? HASH_CODES[id] : unit.hashCode();
+	}
+
+	/**
+	 * Indicates if the specified units are equal, comparing the unit IDs of
+	 * registered units instead of their products and converters.
+	 *
+	 * @param u1 the first unit, may be <code>null</code>.
+	 * @param u2 the second unit, may be <code>null</code>.
+	 * @return <code>true</code> if both units are <code>null</code> or equal;
+	 *         <code>false</code> otherwise.
+	 */
+	public static boolean equals(Unit<?> u1, Unit<?> u2) {
+		if (u1 == u2) {
+			return true;
+		}
+		if (u1 == null || u2 == null) {
+			return false;
+		}
+		final Integer id1 = IDENTITIES.get(u1);
+		final Integer id2 = IDENTITIES.get(u2);
+		if (id1 != null && id2 != null) {
+			return id1.intValue() == id2.intValue();
+		}
+		return u1.equals(u2);
+	}
+
+	private static void addSystem(Set<Unit<?>> units, SystemOfUnits system) {
+		final List<Unit<?>> sorted = new ArrayList<>(system.getUnits());
+		Collections.sort(sorted, ORDER);
+		units.addAll(sorted);
+	}
+
+	private static int compareNullable(String s1, String s2) {
+		if (s1 == null) {
+			return s2 == null ? 0 : 1;
+		}
+		return s2 == null ? -1 : s1.compareTo(s2);
+	}
+}
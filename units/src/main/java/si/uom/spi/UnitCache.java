@@ -0,0 +1,597 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.measure.Unit;
+
+/**
+ * A bounded cache of values computed from units which are not
+ * {@link RegisteredUnits registered}, such as interned units, results of unit
+ * algebra or converters between pairs of units.
+ * <p>
+ * Values are looked up by one key, or by two keys for binary operations. Keys
+ * are always held weakly, values are held according to the
+ * {@link References references} of the cache. Lookups do not lock: entries are
+ * kept in a {@link ConcurrentHashMap}, and entries whose keys or values have
+ * been garbage collected are removed when the cache is next updated. When the
+ * maximum size is exceeded, the oldest entries are evicted one by one.
+ * </p>
+ * <p>
+ * The maximum size and references of a cache named <code>name</code> can be
+ * configured by the system properties <code>si.uom.cache.<i>name</i>.size</code>
+ * and <code>si.uom.cache.<i>name</i>.references</code>, e.g.
+ * <code>-Dsi.uom.cache.converters.references=weak</code>. All caches of the
+ * library and their statistics are listed by {@link #getCaches()}.
+ * </p>
+ *
+ * @param <V> the type of cached values.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.1, Oct 18, 2026
+ * @since 2.3
+ */
+public final class UnitCache<V> {
+
+	/**
+	 * The prefix of the system properties configuring caches.
+	 */
+	public static final String PROPERTY_PREFIX = "si.uom.cache.";
+
+	/**
+	 * The estimated number of bytes used by the cache per entry: the hash table
+	 * node, the weak key, the value holder and the eviction queue node, on a 64
+	 * bit JVM with compressed references.
+	 */
+	static final int ENTRY_BYTES = 32 + 48 + 40 + 24;
+
+	/**
+	 * How a cache refers to its values.
+	 */
+	public enum References {
+		/**
+		 * Values are held strongly while their keys are reachable; they must not
+		 * refer to their keys.
+		 */
+		STRONG,
+		/**
+		 * Values are held softly, and cleared when memory runs low.
+		 */
+		SOFT,
+		/**
+		 * Values are held weakly, and cleared as soon as they are no longer used
+		 * elsewhere.
+		 */
+		WEAK
+	}
+
+	private static final List<UnitCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+	/**
+	 * A reference whose collection removes the entry of its key.
+	 */
+	private interface Owned {
+		Key owner();
+	}
+
+	/**
+	 * Holds a cached value for the entry of its key.
+	 */
+	private interface Holder<V> extends Owned {
+		V get();
+	}
+
+	private static final class StrongHolder<V> implements Holder<V> {
+		private final V value;
+		private final Key owner;
+
+		StrongHolder(V value, Key owner) {
+			this.value = value;
+			this.owner = owner;
+		}
+
+		@Override
+		public V get() {
+			return value;
+		}
+
+		@Override
+		public Key owner() {
+			return owner;
+		}
+	}
+
+	private static final class SoftHolder<V> extends SoftReference<V> implements Holder<V> {
+		private final Key owner;
+
+		SoftHolder(V value, Key owner, ReferenceQueue<Object> queue) {
+			super(value, queue);
+			this.owner = owner;
+		}
+
+		@Override
+		public Key owner() {
+			return owner;
+		}
+	}
+
+	private static final class WeakHolder<V> extends WeakReference<V> implements Holder<V> {
+		private final Key owner;
+
+		WeakHolder(V value, Key owner, ReferenceQueue<Object> queue) {
+			super(value, queue);
+			this.owner = owner;
+		}
+
+		@Override
+		public Key owner() {
+			return owner;
+		}
+	}
+
+	/**
+	 * Refers weakly to the second key of a pair.
+	 */
+	private static final class Second extends WeakReference<Object> implements Owned {
+		private final Key owner;
+
+		Second(Object key, Key owner, ReferenceQueue<Object> queue) {
+			super(key, queue);
+			this.owner = owner;
+		}
+
+		@Override
+		public Key owner() {
+			return owner;
+		}
+	}
+
+	/**
+	 * The stored key, referring weakly to the first key and, for pairs, to the
+	 * second one. Once a key has been collected, the stored key is only equal
+	 * to itself.
+	 */
+	private static final class Key extends WeakReference<Object> implements Owned {
+		private final int hash;
+		private final Second second;
+
+		Key(Object key1, Object key2, int hash, ReferenceQueue<Object> queue) {
+			super(key1, queue);
+			this.hash = hash;
+			this.second = key2 != null ? new Second(key2, this, queue) : null;
+		}
+
+		@Override
+		public Key owner() {
+			return this;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj instanceof Lookup) {
+				return obj.equals(this);
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key that = (Key) obj;
+			final Object key1 = get();
+			if (that.hash != hash || key1 == null || !Lookup.matches(key1, that.get())) {
+				return false;
+			}
+			if (second == null || that.second == null) {
+				return second == that.second;
+			}
+			final Object key2 = second.get();
+			return key2 != null && Lookup.matches(key2, that.second.get());
+		}
+	}
+
+	/**
+	 * A transient key used for lookups, referring strongly to its keys.
+	 */
+	private static final class Lookup {
+		private final Object key1;
+		private final Object key2;
+		private final int hash;
+
+		Lookup(Object key1, Object key2) {
+			this.key1 = key1;
+			this.key2 = key2;
+			this.hash = key2 == null ? hashOf(key1) : 31 * hashOf(key1) + hashOf(key2);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return obj == this;
+			}
+			final Key key = (Key) obj;
+			if (key.hash != hash || !matches(key1, key.get())) {
+				return false;
+			}
+			return key.second == null ? key2 == null : key2 != null && matches(key2, key.second.get());
+		}
+
+		static boolean matches(Object lookup, Object stored) {
+			return lookup == stored || stored != null && lookup.equals(stored);
+		}
+	}
+
+	private final String name;
+
+	private final int maximumSize;
+
+	private final References references;
+
+	private final ConcurrentHashMap<Object, Holder<V>> entries = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * The keys in order of insertion, polled to evict the oldest entries.
+	 */
+	private final ConcurrentLinkedQueue<Key> order = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger orderSize = new AtomicInteger();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder collectedCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private UnitCache(String name, int maximumSize, References references) {
+		this.name = name;
+		this.maximumSize = maximumSize;
+		this.references = references;
+	}
+
+	/**
+	 * Creates a cache, applying its system properties if set.
+	 *
+	 * @param <V>                the type of cached values.
+	 * @param name               the name of the cache.
+	 * @param defaultMaximumSize the maximum number of values if not configured.
+	 * @param defaultReferences  the references to values if not configured.
+	 * @return the new cache.
+	 * @throws IllegalArgumentException if a configured value is not valid.
+	 */
+	public static <V> UnitCache<V> create(String name, int defaultMaximumSize, References defaultReferences) {
+		final int maximumSize = Integer.getInteger(PROPERTY_PREFIX + name + ".size", defaultMaximumSize);
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("Negative size of cache " + name + ": " + maximumSize);
+		}
+		final String property = System.getProperty(PROPERTY_PREFIX + name + ".references");
+		final References references = property != null ? References.valueOf(property.trim().toUpperCase(Locale.ROOT))
+				: defaultReferences;
+		final UnitCache<V> cache = new UnitCache<>(name, maximumSize, references);
+		CACHES.add(cache);
+		return cache;
+	}
+
+	/**
+	 * Returns all caches created by {@link #create(String, int, References)}.
+	 *
+	 * @return the unmodifiable list of caches, in order of creation.
+	 */
+	public static List<UnitCache<?>> getCaches() {
+		return Collections.unmodifiableList(CACHES);
+	}
+
+	/**
+	 * Returns the cached value of the specified key.
+	 *
+	 * @param key the key.
+	 * @return the value, or <code>null</code> if not cached.
+	 */
+	public V get(Object key) {
+		return lookup(new Lookup(key, null));
+	}
+
+	/**
+	 * Returns the cached value of the specified pair of keys.
+	 *
+	 * @param key1 the first key.
+	 * @param key2 the second key.
+	 * @return the value, or <code>null</code> if not cached.
+	 */
+	public V get(Object key1, Object key2) {
+		return lookup(new Lookup(key1, key2));
+	}
+
+	/**
+	 * Caches the value of the specified key.
+	 *
+	 * @param key   the key.
+	 * @param value the value.
+	 */
+	public void put(Object key, V value) {
+		store(key, null, value, false);
+	}
+
+	/**
+	 * Caches the value of the specified pair of keys.
+	 *
+	 * @param key1  the first key.
+	 * @param key2  the second key.
+	 * @param value the value.
+	 */
+	public void put(Object key1, Object key2, V value) {
+		store(key1, key2, value, false);
+	}
+
+	/**
+	 * Returns the cached value of the specified key, caching the specified
+	 * value if there is none.
+	 *
+	 * @param key   the key.
+	 * @param value the value to cache if absent.
+	 * @return the cached value, or <code>value</code> if not cached before.
+	 */
+	public V putIfAbsent(Object key, V value) {
+		final V cached = get(key);
+		return cached != null ? cached : store(key, null, value, true);
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	public void clear() {
+		entries.clear();
+		while (order.poll() != null) {
+			orderSize.decrementAndGet();
+		}
+		expunge();
+	}
+
+	/**
+	 * Returns the name of this cache.
+	 *
+	 * @return the name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the maximum number of values of this cache.
+	 *
+	 * @return the maximum size.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns how this cache refers to its values.
+	 *
+	 * @return the references.
+	 */
+	public References getReferences() {
+		return references;
+	}
+
+	/**
+	 * Returns the number of entries currently retained, removing those whose
+	 * keys or values have been garbage collected.
+	 *
+	 * @return the size.
+	 */
+	public int size() {
+		expunge();
+		return entries.size();
+	}
+
+	/**
+	 * Returns an estimate of the memory retained by the entries of this cache,
+	 * excluding the keys and values themselves.
+	 *
+	 * @return the estimated number of bytes.
+	 */
+	public long getEstimatedBytes() {
+		return (long) size() * ENTRY_BYTES;
+	}
+
+	/**
+	 * Returns the number of lookups which found a value.
+	 *
+	 * @return the hit count.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups which found no value.
+	 *
+	 * @return the miss count.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed because their keys or values were
+	 * garbage collected.
+	 *
+	 * @return the collected count.
+	 */
+	public long getCollectedCount() {
+		return collectedCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries evicted because the cache was full.
+	 *
+	 * @return the eviction count.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		final int size = size();
+		return name + " [size=" + size + "/" + maximumSize + ", bytes~" + (long) size * ENTRY_BYTES
+				+ ", references=" + references + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+				+ ", collected=" + getCollectedCount() + ", evicted=" + getEvictionCount() + "]";
+	}
+
+	private V lookup(Lookup lookup) {
+		final Holder<V> holder = entries.get(lookup);
+		final V value = holder != null ? holder.get() : null;
+		if (value != null) {
+			hitCount.increment();
+		} else {
+			missCount.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Stores a value, returning the value cached afterwards.
+	 */
+	private V store(Object key1, Object key2, V value, boolean ifAbsent) {
+		if (maximumSize == 0) {
+			return value;
+		}
+		expunge();
+		final Lookup lookup = new Lookup(key1, key2);
+		final Key key = new Key(key1, key2, lookup.hash, queue);
+		final Holder<V> holder = holderOf(value, key);
+		for (;;) {
+			final Holder<V> existing = entries.get(lookup);
+			if (existing == null) {
+				if (entries.putIfAbsent(key, holder) == null) {
+					order.add(key);
+					orderSize.incrementAndGet();
+					evict();
+					return value;
+				}
+			} else {
+				final V cached = existing.get();
+				if (ifAbsent && cached != null) {
+					return cached;
+				}
+				// keeps the stored key and its position in the eviction order
+				final Key owner = existing.owner();
+				if (entries.replace(owner, existing, holderOf(value, owner))) {
+					return value;
+				}
+			}
+		}
+	}
+
+	private Holder<V> holderOf(V value, Key owner) {
+		switch (references) {
+		case STRONG:
+			return new StrongHolder<>(value, owner);
+		case SOFT:
+			return new SoftHolder<>(value, owner, queue);
+		default:
+			return new WeakHolder<>(value, owner, queue);
+		}
+	}
+
+	/**
+	 * Evicts the oldest entries while the cache is too large.
+	 */
+	private void evict() {
+		while (entries.size() > maximumSize) {
+			final Key oldest = order.poll();
+			if (oldest == null) {
+				return;
+			}
+			orderSize.decrementAndGet();
+			if (entries.remove(oldest) != null) {
+				evictionCount.increment();
+			}
+		}
+		// keys of collected entries stay queued until polled
+		while (orderSize.get() > 2 * maximumSize) {
+			final Key oldest = order.poll();
+			if (oldest == null) {
+				return;
+			}
+			orderSize.decrementAndGet();
+			if (entries.remove(oldest) != null) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Removes the entries whose keys or values have been garbage collected.
+	 */
+	private void expunge() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			final Key owner = ((Owned) reference).owner();
+			// a collected value only removes the entry if it was not replaced
+			final boolean removed = reference instanceof Holder ? entries.remove(owner, reference)
+					: entries.remove(owner) != null;
+			if (removed) {
+				collectedCount.increment();
+			}
+		}
+	}
+
+	private static int hashOf(Object key) {
+		return key instanceof Unit ? RegisteredUnits.hashCode((Unit<?>) key) : key.hashCode();
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import si.uom.spi.UnitCache.References;
+
+/**
+ * Maps units to canonical instances, so that equal units are mostly also the
+ * same instance.
+ * <p>
+ * A unit equal to one of the {@link RegisteredUnits registered units} is
+ * replaced by the registered instance, e.g. the result of
+ * <code>KILOGRAM.divide(CUBIC_METRE)</code> by
+ * {@link si.uom.SI#KILOGRAM_PER_CUBIC_METRE}. Other units are interned in the
+ * {@link UnitCache} named <code>"interned"</code>, which holds them weakly by
+ * default, so units no longer used elsewhere can still be garbage collected.
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class UnitInterner {
+
+	/**
+	 * The interned units which are not registered, each unit is its own key.
+	 */
+	private static final UnitCache<Unit<?>> INTERNED = UnitCache.create("interned", 8192, References.WEAK);
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private UnitInterner() {
+	}
+
+	/**
+	 * Returns the canonical instance of the specified unit.
+	 *
+	 * @param <Q>  the quantity type.
+	 * @param unit the unit.
+	 * @return the registered unit equal to <code>unit</code> if any, otherwise
+	 *         the first interned unit equal to it.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Q extends Quantity<Q>> Unit<Q> intern(Unit<Q> unit) {
+		if (unit == null) {
+			return null;
+		}
+		final int id = RegisteredUnits.indexOf(unit);
+		if (id >= 0) {
+			return (Unit<Q>) RegisteredUnits.get(id);
+		}
+		return (Unit<Q>) INTERNED.putIfAbsent(unit, unit);
+	}
+
+	/**
+	 * Indicates if the specified unit is its own canonical instance.
+	 *
+	 * @param unit the unit.
+	 * @return <code>true</code> if {@link #intern(Unit)} returns
+	 *         <code>unit</code> itself.
+	 */
+	public static boolean isCanonical(Unit<?> unit) {
+		return intern(unit) == unit;
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.measure.Unit;
+
+/**
+ * A {@link Map} keyed by units, which stores the values of
+ * {@link RegisteredUnits registered units} in an array indexed by unit ID.
+ * <p>
+ * Looking up a registered unit costs an identity lookup of its unit ID
+ * instead of computing the hash code of its products and converters and
+ * comparing them. Other units are kept in a {@link HashMap}, so looking them
+ * up costs one identity lookup and the hash lookup of the {@link HashMap}.
+ * They are compared with the registered units only when they are put,
+ * or when they are not found, as they may be equal copies of them.<br>
+ * This map does not permit <code>null</code> keys or values, and is not
+ * synchronized.
+ * </p>
+ *
+ * @param <V> the type of mapped values.
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class UnitMap<V> extends AbstractMap<Unit<?>, V> {
+
+	private final Object[] registered = new Object[RegisteredUnits.getUnits().size()];
+
+	private final Map<Unit<?>, V> others = new HashMap<>();
+
+	private int registeredSize;
+
+	private Set<Map.Entry<Unit<?>, V>> entrySet;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public UnitMap() {
+	}
+
+	/**
+	 * Creates a map with the same mappings as the specified map.
+	 *
+	 * @param map the map whose mappings are to be placed in this map.
+	 */
+	public UnitMap(Map<? extends Unit<?>, ? extends V> map) {
+		putAll(map);
+	}
+
+	@Override
+	public int size() {
+		return registeredSize + others.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (!(key instanceof Unit)) {
+			return null;
+		}
+		final int id = RegisteredUnits.indexOfInstance((Unit<?>) key);
+		if (id >= 0) {
+			return (V) registered[id];
+		}
+		final V value = others.get(key);
+		return value != null ? value : (V) getCopy((Unit<?>) key);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(Unit<?> key, V value) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(value);
+		int id = RegisteredUnits.indexOfInstance(key);
+		if (id < 0 && (id = RegisteredUnits.indexOf(key)) < 0) {
+			return others.put(key, value);
+		}
+		final V previous = (V) registered[id];
+		if (previous == null) {
+			registeredSize++;
+		}
+		registered[id] = value;
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (!(key instanceof Unit)) {
+			return null;
+		}
+		int id = RegisteredUnits.indexOfInstance((Unit<?>) key);
+		if (id >= 0) {
+			return removeId(id);
+		}
+		final V previous = others.remove(key);
+		if (previous != null || registeredSize == 0) {
+			return previous;
+		}
+		id = RegisteredUnits.indexOf((Unit<?>) key);
+		return id >= 0 ? removeId(id) : null;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < registered.length; i++) {
+			registered[i] = null;
+		}
+		registeredSize = 0;
+		others.clear();
+	}
+
+	@Override
+	public Set<Map.Entry<Unit<?>, V>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Returns the value of a registered unit which is equal to, but not the
+	 * same instance as the specified unit. {@link #put(Unit, Object)} stores
+	 * such units by unit ID, so they are never found among the other units.
+	 */
+	private Object getCopy(Unit<?> unit) {
+		if (registeredSize == 0) {
+			return null;
+		}
+		final int id = RegisteredUnits.indexOf(unit);
+		return id >= 0 ? registered[id] : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V removeId(int id) {
+		final V previous = (V) registered[id];
+		if (previous != null) {
+			registered[id] = null;
+			registeredSize--;
+		}
+		return previous;
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<Unit<?>, V>> {
+
+		@Override
+		public int size() {
+			return UnitMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			UnitMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<Unit<?>, V>> iterator() {
+			return new EntryIterator();
+		}
+	}
+
+	/**
+	 * Iterates the registered units in the order of their unit IDs, then the
+	 * other units.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<Unit<?>, V>> {
+		private int next = advance(0);
+		private int last = -1;
+		private boolean lastFromOthers;
+		private Iterator<Map.Entry<Unit<?>, V>> othersIterator;
+
+		private int advance(int from) {
+			int i = from;
+			while (i < registered.length && registered[i] == null) {
+				i++;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next < registered.length) {
+				return true;
+			}
+			if (othersIterator == null) {
+				othersIterator = others.entrySet().iterator();
+			}
+			return othersIterator.hasNext();
+		}
+
+		@Override
+		public Map.Entry<Unit<?>, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (next < registered.length) {
+				last = next;
+				next = advance(next + 1);
+				return new RegisteredEntry(last);
+			}
+			final Map.Entry<Unit<?>, V> entry = othersIterator.next();
+			last = -1;
+			lastFromOthers = true;
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			if (lastFromOthers) {
+				othersIterator.remove();
+				lastFromOthers = false;
+			} else if (last >= 0 && registered[last] != null) {
+				removeId(last);
+				last = -1;
+			} else {
+				throw new IllegalStateException();
+			}
+		}
+	}
+
+	private final class RegisteredEntry implements Map.Entry<Unit<?>, V> {
+		private final int id;
+
+		private RegisteredEntry(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public Unit<?> getKey() {
+			return RegisteredUnits.get(id);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) registered[id];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			Objects.requireNonNull(value);
+			final V previous = (V) registered[id];
+			registered[id] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+			final Map.Entry<?, ?> that = (Map.Entry<?, ?>) obj;
+			return getKey().equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return RegisteredUnits.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.measure.Unit;
+
+import tech.units.indriya.format.SimpleUnitFormat;
+
+/**
+ * Indexes all {@link RegisteredUnits registered units} by name, symbol and
+ * label, supporting exact, case-insensitive and prefix lookups.
+ * <p>
+ * The index is built once. Exact and case-insensitive lookups are hash lookups;
+ * {@link #complete(String, int) completion} runs a binary search over the
+ * sorted, lower case keys, which include every word of a name, so e.g.
+ * <code>"sec"</code> completes to "Radian per second".
+ * </p>
+ *
+ * @author <a href="mailto:werner@uom.si">Werner Keil</a>
+ * @version 1.0, Oct 18, 2026
+ * @since 2.3
+ */
+public final class UnitNameIndex {
+
+	private static final Map<String, List<Unit<?>>> EXACT;
+
+	private static final Map<String, List<Unit<?>>> IGNORE_CASE;
+
+	/**
+	 * The sorted lower case keys, with the unit of each key at the same index.
+	 */
+	private static final String[] KEYS;
+
+	private static final Unit<?>[] UNITS;
+
+	static {
+		final Map<String, Set<Unit<?>>> exact = new HashMap<>();
+		final Map<String, Set<Unit<?>>> ignoreCase = new HashMap<>();
+		final List<Object[]> completions = new ArrayList<>();
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			final Set<String> texts = new LinkedHashSet<>();
+			addIfPresent(texts, unit.getName());
+			addIfPresent(texts, unit.getSymbol());
+			addIfPresent(texts, SimpleUnitFormat.getInstance().format(unit));
+			for (String text : texts) {
+				exact.computeIfAbsent(text, k -> new LinkedHashSet<>()).add(unit);
+				final String lower = text.toLowerCase(Locale.ROOT);
+				ignoreCase.computeIfAbsent(lower, k -> new LinkedHashSet<>()).add(unit);
+				completions.add(new Object[] { lower, unit });
+				for (int i = 1; i < lower.length(); i++) {
+					if (isSeparator(lower.charAt(i - 1)) && !isSeparator(lower.charAt(i))) {
+						completions.add(new Object[] { lower.substring(i), unit });
+					}
+				}
+			}
+		}
+		EXACT = freeze(exact);
+		IGNORE_CASE = freeze(ignoreCase);
+		// stable, so units of equal keys stay in registry order
+		Collections.sort(completions, (a, b) -> ((String) a[0]).compareTo((String) b[0]));
+		KEYS = new String[completions.size()];
+		UNITS = new Unit<?>[completions.size()];
+		for (int i = 0; i < KEYS.length; i++) {
+			KEYS[i] = (String) completions.get(i)[0];
+			UNITS[i] = (Unit<?>) completions.get(i)[1];
+		}
+	}
+
+	/**
+	 * Default constructor (prevents this class from being instantiated).
+	 */
+	private UnitNameIndex() {
+	}
+
+	/**
+	 * Returns the registered units with exactly the specified name, symbol or
+	 * label.
+	 *
+	 * @param text the name, symbol or label.
+	 * @return the unmodifiable list of units, in the order of
+	 *         {@link RegisteredUnits#getUnits()}.
+	 */
+	public static List<Unit<?>> find(String text) {
+		final List<Unit<?>> units = EXACT.get(text);
+		return units != null ? units : Collections.<Unit<?>>emptyList();
+	}
+
+	/**
+	 * Returns the registered units with the specified name, symbol or label,
+	 * ignoring case.
+	 *
+	 * @param text the name, symbol or label.
+	 * @return the unmodifiable list of units, in the order of
+	 *         {@link RegisteredUnits#getUnits()}.
+	 */
+	public static List<Unit<?>> findIgnoreCase(String text) {
+		final List<Unit<?>> units = IGNORE_CASE.get(text.toLowerCase(Locale.ROOT));
+		return units != null ? units : Collections.<Unit<?>>emptyList();
+	}
+
+	/**
+	 * Returns the registered units with a name, a word of a name, a symbol or a
+	 * label starting with the specified text, ignoring case.
+	 *
+	 * @param prefix   the beginning of the name, symbol or label.
+	 * @param maxUnits the maximum number of units to return.
+	 * @return the units without duplicates, ordered by the matching key.
+	 */
+	public static List<Unit<?>> complete(String prefix, int maxUnits) {
+		final String lower = prefix.toLowerCase(Locale.ROOT);
+		int i = Arrays.binarySearch(KEYS, lower);
+		if (i < 0) {
+			i = -i - 1;
+		} else {
+			while (i > 0 && KEYS[i - 1].equals(lower)) {
+				i--;
+			}
+		}
+		final Set<Unit<?>> result = new LinkedHashSet<>();
+		for (; i < KEYS.length && result.size() < maxUnits && KEYS[i].startsWith(lower); i++) {
+			result.add(UNITS[i]);
+		}
+		return new ArrayList<>(result);
+	}
+
+	private static void addIfPresent(Set<String> texts, String text) {
+		if (text != null && !text.isEmpty()) {
+			texts.add(text);
+		}
+	}
+
+	private static boolean isSeparator(char c) {
+		return c == ' ' || c == '-' || c == '_';
+	}
+
+	private static Map<String, List<Unit<?>>> freeze(Map<String, Set<Unit<?>>> map) {
+		final Map<String, List<Unit<?>>> result = new HashMap<>(map.size() * 2);
+		for (Map.Entry<String, Set<Unit<?>>> entry : map.entrySet()) {
+			result.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+		}
+		return result;
+	}
+}
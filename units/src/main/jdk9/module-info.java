@@ -36,6 +36,10 @@ module si.uom.units {
     requires java.logging;
     requires static si.uom.quantity;
     exports si.uom;
+    exports si.uom.format;
+    exports si.uom.function;
+    exports si.uom.quantities;
+    exports si.uom.spi;
     
     provides javax.measure.spi.ServiceProvider with
     	si.uom.SIServiceProvider;
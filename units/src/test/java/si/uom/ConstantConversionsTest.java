@@ -0,0 +1,90 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.ConstantConversions.Conversion;
+import si.uom.function.DoubleConverter;
+import tech.units.indriya.unit.Units;
+
+public class ConstantConversionsTest {
+
+	@Test
+	public void testDecimalFactors() {
+		assertEquals(new BigDecimal("6.62607015E-34"), ConstantConversions.PLANCK_CONSTANT.getDecimalFactor());
+		assertEquals(new BigDecimal("299792458"), ConstantConversions.C.getDecimalFactor());
+		assertEquals(new BigDecimal("9192631770"), ConstantConversions.DELTA_V_CS.getDecimalFactor());
+		assertEquals(new BigDecimal("6.02214199E+23"), ConstantConversions.AVOGADRO_CONSTANT.getDecimalFactor());
+		assertEquals(new BigDecimal("2.99792458E+11"),
+				ConstantConversions.C.toSystemUnit(new BigDecimal("1000")).stripTrailingZeros());
+		assertEquals(new BigDecimal("2"), ConstantConversions.ELEMENTARY_CHARGE
+				.fromSystemUnit(new BigDecimal("3.204352924E-19"), MathContext.DECIMAL64).stripTrailingZeros());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testMatchesUnitConverters() {
+		assertEquals(7, ConstantConversions.getConversions().size());
+		for (Conversion conversion : ConstantConversions.getConversions()) {
+			final Unit unit = conversion.getUnit();
+			final double expected = unit.getConverterTo(unit.getSystemUnit()).convert(1d);
+			assertEquals(expected, conversion.getFactor(), Math.abs(expected) * 1e-15, conversion.toString());
+			assertEquals(1d, conversion.fromSystemUnit(conversion.toSystemUnit(1d)), 1e-15);
+			assertEquals(conversion.getFactor(), DoubleConverter.toSystemUnit(unit).getFactor(), 0d);
+		}
+	}
+
+	@Test
+	public void testGet() {
+		assertSame(ConstantConversions.PLANCK_CONSTANT, ConstantConversions.get(SI.PLANCK_CONSTANT));
+		assertSame(ConstantConversions.C, ConstantConversions.get(Units.METRE_PER_SECOND.multiply(299792458)));
+		assertNull(ConstantConversions.get(Units.METRE));
+		assertNull(ConstantConversions.get(null));
+	}
+
+	@Test
+	public void testSpectroscopy() {
+		// E = h * f, with h in J·s, in electron volts
+		final DoubleConverter toJouleSecond = DoubleConverter.of(SI.PLANCK_CONSTANT, SI.JOULE_SECOND);
+		final DoubleConverter toCoulomb = DoubleConverter.of(SI.ELEMENTARY_CHARGE, Units.COULOMB);
+		final double energy = toJouleSecond.convert(1) * 1e15 / toCoulomb.convert(1);
+		assertEquals(4.135668, energy, 1e-6);
+	}
+}
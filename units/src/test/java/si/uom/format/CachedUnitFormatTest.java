@@ -0,0 +1,172 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import si.uom.spi.RegisteredUnits;
+import tech.units.indriya.format.EBNFUnitFormat;
+import tech.units.indriya.format.SimpleUnitFormat;
+
+public class CachedUnitFormatTest {
+
+	@Test
+	public void testFormatMatchesSimpleUnitFormat() {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance();
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			assertEquals(SimpleUnitFormat.getInstance().format(unit), format.format(unit));
+		}
+	}
+
+	@Test
+	public void testFormatMatchesEBNFUnitFormat() {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance(UnitFormatStyle.EBNF);
+		assertEquals(EBNFUnitFormat.getInstance().format(SI.NEWTON_PER_SQUARE_AMPERE),
+				format.format(SI.NEWTON_PER_SQUARE_AMPERE));
+		assertEquals(EBNFUnitFormat.getInstance().format(SI.WATT_PER_STERADIAN_PER_SQUARE_METRE),
+				format.format(SI.WATT_PER_STERADIAN_PER_SQUARE_METRE));
+	}
+
+	@Test
+	public void testFormatAppendable() throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		CachedUnitFormat.getInstance().format(NonSI.TONNE, sb);
+		assertEquals("t", sb.toString());
+	}
+
+	@Test
+	public void testFormatNotRegistered() {
+		assertEquals("km", CachedUnitFormat.getInstance().format(KILO(SI.METRE)));
+	}
+
+	@Test
+	public void testParse() {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance();
+		assertSame(NonSI.TONNE, format.parse("t"));
+		assertEquals(SI.KILOGRAM_METRE_PER_SECOND, format.parse(format.format(SI.KILOGRAM_METRE_PER_SECOND)));
+		assertEquals(KILO(SI.METRE), format.parse("km"));
+	}
+	
+	@Test
+	public void testLabel() {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance();
+		format.label(NonSI.HECTARE, "ha");
+		assertEquals("ha", format.format(NonSI.HECTARE));
+		assertEquals(NonSI.HECTARE, format.parse("ha"));
+	}
+
+	@Test
+	public void testLabelSharedFormat() {
+		final CachedUnitFormat simple = CachedUnitFormat.getInstance();
+		final CachedUnitFormat unicode = CachedUnitFormat.getInstance(UnitFormatStyle.UNICODE);
+		simple.label(NonSI.HECTARE, "hectare");
+		try {
+			assertEquals("hectare", unicode.format(NonSI.HECTARE));
+			assertEquals(NonSI.HECTARE, unicode.parse("hectare"));
+		} finally {
+			simple.label(NonSI.HECTARE, "ha");
+		}
+		assertEquals("ha", unicode.format(NonSI.HECTARE));
+	}
+
+	@Test
+	public void testParseOwnOutput() {
+		for (UnitFormatStyle style : new UnitFormatStyle[] { UnitFormatStyle.ASCII, UnitFormatStyle.UNICODE }) {
+			final CachedUnitFormat format = CachedUnitFormat.getInstance(style);
+			assertEquals(NonSI.ANGSTROM, format.parse(format.format(NonSI.ANGSTROM)));
+			assertEquals(SI.PLANCK_CONSTANT, format.parse(format.format(SI.PLANCK_CONSTANT)));
+			assertEquals(SI.DELTA_V_CS, format.parse(format.format(SI.DELTA_V_CS)));
+		}
+	}
+
+	@Test
+	public void testAsciiRoundTrip() {
+		final CachedUnitFormat simple = CachedUnitFormat.getInstance();
+		final CachedUnitFormat ascii = CachedUnitFormat.getInstance(UnitFormatStyle.ASCII);
+		assertEquals("h_P", ascii.format(SI.PLANCK_CONSTANT));
+		assertEquals(SI.HOUR, ascii.parse("h"));
+		assertEquals(SI.PLANCK_CONSTANT.divide(SI.SECOND), ascii.parse("h_P/s"));
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			// units which the simple format already cannot tell apart are skipped
+			if (unit.equals(simple.parse(simple.format(unit)))) {
+				assertEquals(unit, ascii.parse(ascii.format(unit)), ascii.format(unit));
+			}
+		}
+	}
+
+	@Test
+	public void testAsciiSafe() {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance(UnitFormatStyle.ASCII);
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			assertAscii(format.format(unit));
+		}
+		assertAscii(format.format(NonSI.ANGSTROM));
+		assertAscii(format.format(SI.PLANCK_CONSTANT));
+		assertAscii(format.format(SI.DELTA_V_CS));
+		assertAscii(format.format(KILO(SI.OHM)));
+	}
+
+	@Test
+	public void testTransliteration() {
+		assertEquals("W/(sr*m^2)", SymbolTransliteration.toAscii("W/(sr·m²)"));
+		assertEquals("m^-1", SymbolTransliteration.toAscii("m⁻¹"));
+		assertEquals("Ang", SymbolTransliteration.toAscii("Å"));
+		assertEquals("Dnu", SymbolTransliteration.toAscii("Δν"));
+		assertEquals("m⁴", SymbolTransliteration.toUnicode("m^4"));
+		assertEquals("s⁻¹", SymbolTransliteration.toUnicode("s^-1"));
+		assertEquals("a^b", SymbolTransliteration.toUnicode("a^b"));
+	}
+
+	@Test
+	public void testUnicode() {
+		final CachedUnitFormat format = CachedUnitFormat.getInstance(UnitFormatStyle.UNICODE);
+		assertEquals("\u00C5", format.format(NonSI.ANGSTROM));
+		assertEquals("\u210E", format.format(SI.PLANCK_CONSTANT));
+		assertFalse(format.format(SI.METRE.pow(4)).contains("^"));
+	}
+
+	private static void assertAscii(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			assertTrue(text.charAt(i) < 128, text);
+		}
+	}
+}
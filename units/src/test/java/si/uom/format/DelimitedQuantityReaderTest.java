@@ -0,0 +1,147 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MEGA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+
+public class DelimitedQuantityReaderTest {
+
+	@Test
+	public void testHeaderUnits() throws IOException {
+		try (DelimitedQuantityReader reader = new DelimitedQuantityReader(
+				new StringReader("id,distance[nmi],mass[t]\n1,2,0.5\n2,1.5,3\n"), DelimitedQuantityReader.CSV)) {
+			assertEquals(3, reader.readHeader());
+			assertEquals("distance", reader.getColumnName(1));
+			assertEquals(NonSI.NAUTICAL_MILE, reader.getUnit(1));
+			assertEquals(SI.METRE, reader.getSystemUnit(1));
+			assertEquals(SI.KILOGRAM, reader.getSystemUnit(2));
+
+			assertTrue(reader.next());
+			assertEquals(1, reader.getValue(0), 0);
+			assertEquals(3704, reader.getValue(1), 1e-9);
+			assertEquals(500, reader.getValue(2), 1e-9);
+			assertTrue(reader.next());
+			assertEquals(2778, reader.getValue(1), 1e-9);
+			assertEquals(3000, reader.getValue(2), 1e-9);
+			assertFalse(reader.next());
+		}
+	}
+
+	@Test
+	public void testValueSuffixes() throws IOException {
+		try (DelimitedQuantityReader reader = new DelimitedQuantityReader(
+				new StringReader("2 km\t760 mmHg\n\n300m\t1 Pa\n"), DelimitedQuantityReader.TSV)) {
+			assertTrue(reader.next());
+			assertEquals(2000, reader.getValue(0), 1e-9);
+			assertEquals(101325, reader.getValue(1), 0.1);
+			assertEquals(SI.PASCAL, reader.getSystemUnit(1));
+			assertTrue(reader.next());
+			assertEquals(300, reader.getValue(0), 1e-9);
+			assertEquals(1, reader.getValue(1), 1e-9);
+			assertFalse(reader.next());
+		}
+	}
+
+	@Test
+	public void testUnitPerRecord() throws IOException {
+		try (DelimitedQuantityReader reader = new DelimitedQuantityReader(
+				new StringReader("p[kPa]\n1 MPa\n2\n3 MPa\n4 kPa\n"), DelimitedQuantityReader.CSV)) {
+			reader.readHeader();
+			assertTrue(reader.next());
+			assertEquals(1e6, reader.getValue(0), 1e-6);
+			assertEquals(MEGA(SI.PASCAL), reader.getUnit(0));
+			assertTrue(reader.next());
+			assertEquals(2000, reader.getValue(0), 1e-9);
+			assertEquals(KILO(SI.PASCAL), reader.getUnit(0));
+			assertTrue(reader.next());
+			assertEquals(3e6, reader.getValue(0), 1e-6);
+			assertEquals(MEGA(SI.PASCAL), reader.getUnit(0));
+			assertTrue(reader.next());
+			assertEquals(4000, reader.getValue(0), 1e-9);
+			assertEquals(KILO(SI.PASCAL), reader.getUnit(0));
+		}
+	}
+
+	@Test
+	public void testColumnarRead() throws IOException {
+		try (DelimitedQuantityReader reader = new DelimitedQuantityReader(
+				new ByteArrayInputStream("mass[t]\n1\n2\n3\n".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+				DelimitedQuantityReader.CSV)) {
+			reader.readHeader();
+			final double[][] columns = { new double[4] };
+			assertEquals(3, reader.read(columns, 0, 4));
+			assertEquals(1000, columns[0][0], 1e-9);
+			assertEquals(2000, columns[0][1], 1e-9);
+			assertEquals(3000, columns[0][2], 1e-9);
+			assertEquals(0, reader.read(columns, 0, 4));
+		}
+	}
+
+	@Test
+	public void testQuotedAndMissingValues() throws IOException {
+		try (DelimitedQuantityReader reader = new DelimitedQuantityReader(
+				new StringReader("\"a, \"\"b\"\"\",,1e3 g\r\n"), DelimitedQuantityReader.CSV)) {
+			assertTrue(reader.next());
+			assertEquals(3, reader.getFieldCount());
+			assertEquals("a, \"b\"", reader.getText(0));
+			assertTrue(Double.isNaN(reader.getValue(0)));
+			assertTrue(Double.isNaN(reader.getValue(1)));
+			assertEquals(1, reader.getValue(2), 1e-12);
+			assertTrue(Double.isNaN(reader.getValue(3)));
+		}
+	}
+
+	@Test
+	public void testIncompatibleSuffix() throws IOException {
+		try (DelimitedQuantityReader reader = new DelimitedQuantityReader(
+				new StringReader("distance[nmi]\n3 kg\n"), DelimitedQuantityReader.CSV)) {
+			reader.readHeader();
+			assertTrue(reader.next());
+			assertThrows(MeasurementParseException.class, () -> reader.getValue(0));
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.format;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MICRO;
+import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+
+public class QuantityScannerTest {
+
+	private final List<Object[]> found = new ArrayList<>();
+
+	private final QuantityScanner.Handler handler = (start, end, value, unit) -> found
+			.add(new Object[] { start, end, value, unit });
+
+	@Test
+	public void testLogLine() {
+		final String line = "temp drift 3.2 mK, dose 40 mrem, pressure 760 mmHg";
+		assertEquals(3, QuantityScanner.getInstance().scan(line, handler));
+		assertQuantity(0, 11, 17, 3.2, MILLI(SI.KELVIN));
+		assertQuantity(1, 24, 31, 40, MILLI(NonSI.REM));
+		assertQuantity(2, 42, 50, 760, NonSI.MILLIMETRE_OF_MERCURY);
+	}
+
+	@Test
+	public void testWindow() {
+		final String line = "a=1 m b=2 s c=3 kg";
+		assertEquals(1, QuantityScanner.getInstance().scan(line, 6, 12, handler));
+		assertQuantity(0, 8, 11, 2, SI.SECOND);
+	}
+
+	@Test
+	public void testNumbersWithoutUnits() {
+		assertEquals(0, QuantityScanner.getInstance().scan("id 42 of v1.2 at x3m", handler));
+	}
+
+	@Test
+	public void testWordsAreNotPrefixedUnits() {
+		final QuantityScanner scanner = QuantityScanner.getInstance();
+		assertEquals(0, scanner.scan("meet at 3 am", handler));
+		assertEquals(0, scanner.scan("took 5 as planned", handler));
+		assertEquals(0, scanner.scan("after 2 mmin and 4 kh", handler));
+	}
+
+	@Test
+	public void testPrefixWhitelist() {
+		final QuantityScanner scanner = new QuantityScanner(CachedUnitFormat.getInstance(),
+				EnumSet.of(MetricPrefix.KILO));
+		assertEquals(1, scanner.scan("5 km and 3 mm", handler));
+		assertQuantity(0, 0, 4, 5, KILO(SI.METRE));
+	}
+
+	@Test
+	public void testExponentsAndSigns() {
+		assertEquals(2, QuantityScanner.getInstance().scan("-1.5e3 Pa and 3eV", handler));
+		assertQuantity(0, 0, 9, -1500, SI.PASCAL);
+		assertQuantity(1, 14, 17, 3, NonSI.ELECTRON_VOLT);
+	}
+
+	@Test
+	public void testMicroAndCompound() {
+		assertEquals(2, QuantityScanner.getInstance().scan("(5 us) speed 12 m/s.", handler));
+		assertQuantity(0, 1, 5, 5, MICRO(SI.SECOND));
+		assertQuantity(1, 13, 19, 12, SI.METRE_PER_SECOND);
+	}
+
+	private void assertQuantity(int index, int start, int end, double value, Unit<?> unit) {
+		final Object[] q = found.get(index);
+		assertEquals(start, q[0]);
+		assertEquals(end, q[1]);
+		assertEquals(value, (Double) q[2], 1e-12);
+		assertEquals(unit, q[3]);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javax.measure.quantity.Energy;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.quantities.QuantityArray;
+import tech.units.indriya.unit.Units;
+
+public class CompensatedSumTest {
+
+	@Test
+	public void testCompensation() {
+		final double[] values = { 1, 1e100, 1, -1e100 };
+		assertEquals(0, values[0] + values[1] + values[2] + values[3]);
+		final CompensatedSum sum = CompensatedSum.sum(values, 0, values.length);
+		assertEquals(2, sum.getSum());
+		assertEquals(4, sum.getCount());
+	}
+
+	@Test
+	public void testParallelMatchesExactSum() {
+		final int n = 4 * CompensatedSum.PARALLEL_THRESHOLD + 17;
+		final double[] values = new double[n];
+		Arrays.fill(values, 0.1);
+		final double naive = naiveSum(values);
+		final CompensatedSum sum = CompensatedSum.parallelSum(values, 0, n);
+		final double exact = n * 0.1;
+		assertEquals(exact, sum.getSum(), sum.getErrorBound());
+		assertTrue(Math.abs(naive - exact) > sum.getErrorBound());
+		assertEquals(CompensatedSum.sum(values, 0, n).getSum(), sum.getSum(), sum.getErrorBound());
+		assertEquals(n, sum.getCount());
+	}
+
+	@Test
+	public void testNonFinite() {
+		final double[] values = { 1, Double.POSITIVE_INFINITY, 2 };
+		assertEquals(Double.POSITIVE_INFINITY, CompensatedSum.sum(values, 0, 3).getSum());
+		assertThrows(IndexOutOfBoundsException.class, () -> CompensatedSum.parallelSum(values, 2, 4));
+	}
+
+	@Test
+	public void testQuantityArraySum() {
+		final double[] values = new double[100000];
+		Arrays.fill(values, 1e-3);
+		final QuantityArray<Energy> energies = QuantityArray.wrap(NonSI.ELECTRON_VOLT, values);
+		assertEquals(100, energies.sum().getSum(), 1e-12);
+		final double joules = energies.sum(Units.JOULE).getValue().doubleValue();
+		assertEquals(100 * 1.602176487e-19, joules, 1e-30);
+		assertNotEquals(0, energies.sum().getErrorBound());
+	}
+
+	private static double naiveSum(double[] values) {
+		double sum = 0;
+		for (double value : values) {
+			sum += value;
+		}
+		return sum;
+	}
+}
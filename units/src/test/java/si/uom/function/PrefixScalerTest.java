@@ -0,0 +1,104 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MEGA;
+import static javax.measure.MetricPrefix.MICRO;
+import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.measure.MetricPrefix;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import si.uom.quantity.ElectricalConductivity;
+import si.uom.spi.PrefixedUnits;
+import tech.units.indriya.unit.Units;
+
+public class PrefixScalerTest {
+
+	@Test
+	public void testDecimalExponent() {
+		for (int e = -39; e < 39; e++) {
+			final double power = Double.parseDouble("1e" + e);
+			assertEquals(e, PrefixScaler.decimalExponent(power), "1e" + e);
+			assertEquals(e, PrefixScaler.decimalExponent(Math.nextUp(power)), "1e" + e + "+");
+			assertEquals(e - 1, PrefixScaler.decimalExponent(Math.nextDown(power)), "1e" + e + "-");
+			assertEquals(e, PrefixScaler.decimalExponent(power * 9.99), "9.99e" + e);
+		}
+	}
+
+	@Test
+	public void testPrefixOf() {
+		final PrefixScaler scaler = PrefixScaler.getInstance();
+		assertNull(scaler.prefixOf(0));
+		assertNull(scaler.prefixOf(1));
+		assertNull(scaler.prefixOf(-999));
+		assertSame(KILO, scaler.prefixOf(1000));
+		assertSame(MILLI, scaler.prefixOf(0.999));
+		assertSame(MICRO, scaler.prefixOf(0.000042));
+		assertSame(MetricPrefix.QUECTO, scaler.prefixOf(1e-40));
+		assertNull(scaler.prefixOf(Double.NaN));
+	}
+
+	@Test
+	public void testScale() {
+		final PrefixScaler.Scaled<ElectricalConductivity> scaled = PrefixScaler.getInstance().scale(0.000042,
+				SI.SIEMENS_PER_METRE);
+		assertEquals(42, scaled.getValue(), 1e-12);
+		assertSame(MICRO, scaled.getPrefix());
+		assertSame(PrefixedUnits.get(SI.SIEMENS_PER_METRE, MICRO), scaled.getUnit());
+		assertEquals("µS/m", scaled.getLabel());
+		final PrefixScaler.Scaled<Length> metres = PrefixScaler.getInstance().scale(12.5, Units.METRE);
+		assertEquals(12.5, metres.getValue());
+		assertNull(metres.getPrefix());
+		assertEquals("m", metres.getLabel());
+	}
+
+	@Test
+	public void testScaleKilogramAndAlternative() {
+		final PrefixScaler.Scaled<Mass> grams = PrefixScaler.getInstance().scale(0.002, Units.KILOGRAM);
+		assertEquals(2, grams.getValue(), 1e-12);
+		assertEquals("g", grams.getLabel());
+		final PrefixScaler scaler = PrefixScaler.getInstance().withAlternative(Units.GRAM, MEGA, NonSI.TONNE);
+		final PrefixScaler.Scaled<Mass> tonnes = scaler.scale(2500, Units.KILOGRAM);
+		assertEquals(2.5, tonnes.getValue(), 1e-12);
+		assertSame(NonSI.TONNE, tonnes.getUnit());
+		assertEquals("t", tonnes.getLabel());
+		assertEquals(2.5, PrefixScaler.getInstance().scale(2500, Units.KILOGRAM).getValue(), 1e-12);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Mass;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+public class QuantityCollectorsTest {
+
+	private static List<Quantity<Mass>> masses() {
+		final List<Quantity<Mass>> masses = new ArrayList<>();
+		masses.add(Quantities.getQuantity(1, NonSI.TONNE));
+		masses.add(Quantities.getQuantity(500, Units.KILOGRAM));
+		masses.add(Quantities.getQuantity(250000, Units.GRAM));
+		masses.add(Quantities.getQuantity(250, Units.KILOGRAM));
+		return masses;
+	}
+
+	@Test
+	public void testSumming() {
+		final Quantity<Mass> sum = masses().stream().collect(QuantityCollectors.summing(Units.KILOGRAM));
+		assertSame(Units.KILOGRAM, sum.getUnit());
+		assertEquals(2000, sum.getValue().doubleValue(), 1e-9);
+		assertEquals(2, masses().parallelStream().collect(QuantityCollectors.summing(NonSI.TONNE)).getValue()
+				.doubleValue(), 1e-12);
+	}
+
+	@Test
+	public void testAveraging() {
+		assertEquals(500, masses().stream().collect(QuantityCollectors.averaging(Units.KILOGRAM)).getValue()
+				.doubleValue(), 1e-9);
+	}
+
+	@Test
+	public void testMinimumAndMaximum() {
+		assertEquals(250, masses().stream().collect(QuantityCollectors.minimum(Units.KILOGRAM)).get().getValue()
+				.doubleValue(), 1e-9);
+		assertEquals(1, masses().stream().collect(QuantityCollectors.maximum(NonSI.TONNE)).get().getValue()
+				.doubleValue(), 1e-12);
+		assertFalse(Stream.<Quantity<Mass>>empty().collect(QuantityCollectors.maximum(Units.KILOGRAM)).isPresent());
+	}
+
+	@Test
+	public void testSummarizing() {
+		final QuantityStatistics<Mass> statistics = masses().stream()
+				.collect(QuantityCollectors.summarizing(Units.KILOGRAM));
+		assertEquals(4, statistics.getCount());
+		assertEquals(2000, statistics.getSum().getValue().doubleValue(), 1e-9);
+		assertEquals(1000, statistics.getMax().getValue().doubleValue(), 1e-9);
+		assertEquals(250, statistics.getMin().getValue().doubleValue(), 1e-9);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.quantity.Pressure;
+import javax.measure.quantity.Temperature;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+public class QuantityComparisonTest {
+
+	private static final Quantity<Pressure> MMHG = Quantities.getQuantity(1, NonSI.MILLIMETRE_OF_MERCURY);
+
+	@Test
+	public void testCompare() {
+		assertEquals(1, QuantityComparison.compare(MMHG, Quantities.getQuantity(133, Units.PASCAL)));
+		assertEquals(-1, QuantityComparison.compare(MMHG, Quantities.getQuantity(134, Units.PASCAL)));
+		assertTrue(QuantityComparison.isEquivalent(MMHG, Quantities.getQuantity(133.322387415, Units.PASCAL)));
+	}
+
+	@Test
+	public void testTolerance() {
+		final Quantity<Pressure> pascal = Quantities.getQuantity(133.3, Units.PASCAL);
+		assertFalse(QuantityComparison.isEquivalent(MMHG, pascal));
+		assertTrue(QuantityComparison.isEquivalent(MMHG, pascal, 1e-3));
+		assertFalse(QuantityComparison.isEquivalent(MMHG, pascal, 1e-6));
+		assertTrue(QuantityComparison.isEquivalent(MMHG, pascal, Quantities.getQuantity(0.1, Units.PASCAL)));
+		assertFalse(QuantityComparison.isEquivalent(MMHG, pascal, Quantities.getQuantity(0.01, Units.PASCAL)));
+	}
+
+	@Test
+	public void testToleranceIgnoresOffset() {
+		final Quantity<Temperature> celsius = Quantities.getQuantity(20, Units.CELSIUS);
+		final Quantity<Temperature> kelvin = Quantities.getQuantity(293.65, Units.KELVIN);
+		assertTrue(QuantityComparison.isEquivalent(celsius, kelvin, Quantities.getQuantity(0.6, Units.KELVIN)));
+		assertFalse(QuantityComparison.isEquivalent(celsius, kelvin, Quantities.getQuantity(0.4, Units.KELVIN)));
+	}
+
+	@Test
+	public void testConverterCache() {
+		assertSame(DoubleConverter.of(NonSI.MILLIMETRE_OF_MERCURY, Units.PASCAL),
+				DoubleConverter.of(NonSI.MILLIMETRE_OF_MERCURY, Units.PASCAL));
+		assertThrows(UnconvertibleException.class, () -> DoubleConverter.of(Units.PASCAL, Units.METRE));
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javax.measure.UnconvertibleException;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Temperature;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import si.uom.quantities.QuantityArray;
+import si.uom.quantity.KinematicViscosity;
+import si.uom.quantity.Momentum;
+import tech.units.indriya.unit.Units;
+
+public class QuantityKernelTest {
+
+	private static final QuantityExpression MASS = QuantityExpression.variable("mass", Units.GRAM);
+
+	private static final QuantityExpression VELOCITY = QuantityExpression.variable("velocity",
+			Units.KILOMETRE_PER_HOUR);
+
+	@Test
+	public void testMomentum() {
+		final QuantityKernel<Momentum> kernel = MASS.multiply(VELOCITY).compile(SI.KILOGRAM_METRE_PER_SECOND);
+		assertEquals(Arrays.asList("mass", "velocity"), kernel.getVariables());
+		final double[] momentum = kernel.evaluate(new double[] { 1000, 2000 }, new double[] { 3.6, 36 });
+		assertArrayEquals(new double[] { 1, 20 }, momentum, 1e-12);
+	}
+
+	@Test
+	public void testKinematicViscosity() {
+		final QuantityExpression dynamicViscosity = QuantityExpression.variable("dynamicViscosity",
+				SI.PASCAL_SECOND);
+		final QuantityExpression density = QuantityExpression.variable("density", SI.KILOGRAM_PER_CUBIC_METRE);
+		final QuantityKernel<KinematicViscosity> kernel = dynamicViscosity.divide(density)
+				.compile(KinematicViscosity.class);
+		assertTrue(kernel.getUnit().isEquivalentTo(SI.SQUARE_METRE_PER_SECOND));
+		final QuantityArray<KinematicViscosity> result = kernel.evaluate(
+				QuantityArray.of(SI.PASCAL_SECOND, 1.002e-3, 1.81e-5), QuantityArray.of(SI.KILOGRAM_PER_CUBIC_METRE,
+						998.2, 1.204));
+		assertEquals(1.0038e-6, result.doubleValue(0), 1e-9);
+		assertEquals(1.5033e-5, result.doubleValue(1), 1e-8);
+	}
+
+	@Test
+	public void testPlanTimeChecks() {
+		assertThrows(UnconvertibleException.class, () -> MASS.add(VELOCITY));
+		assertThrows(UnconvertibleException.class, () -> MASS.compile(Units.METRE));
+		final ClassCastException e = assertThrows(ClassCastException.class,
+				() -> MASS.multiply(VELOCITY).compile(KinematicViscosity.class));
+		assertTrue(e.getMessage().contains(SI.SQUARE_METRE_PER_SECOND.getDimension().toString()), e.getMessage());
+		assertThrows(IllegalArgumentException.class,
+				() -> MASS.add(QuantityExpression.variable("mass", Units.KILOGRAM)).compile(Units.KILOGRAM));
+	}
+
+	@Test
+	public void testAdditionAcrossBlocks() {
+		final QuantityExpression metres = QuantityExpression.variable("a", Units.METRE);
+		final QuantityExpression kilometres = QuantityExpression.variable("b", KILO(Units.METRE));
+		final QuantityKernel<Length> kernel = metres.add(kilometres).subtract(metres).multiply(2)
+				.compile(Units.METRE);
+		final int n = QuantityKernel.BLOCK_SIZE * 2 + 3;
+		final double[] a = new double[n];
+		final double[] b = new double[n];
+		for (int i = 0; i < n; i++) {
+			a[i] = i;
+			b[i] = i / 1000d;
+		}
+		final double[] result = kernel.evaluate(a, b);
+		for (int i = 0; i < n; i++) {
+			assertEquals(2 * i, result[i], 1e-9);
+		}
+	}
+
+	@Test
+	public void testAffineConversion() {
+		final QuantityExpression celsius = QuantityExpression.variable("t", Units.CELSIUS);
+		final QuantityKernel<Temperature> kernel = celsius.compile(Units.KELVIN);
+		assertArrayEquals(new double[] { 273.15, 298.15 }, kernel.evaluate(new double[] { 0, 25 }), 1e-9);
+		final QuantityKernel<Mass> identity = MASS.compile(Units.GRAM);
+		assertArrayEquals(new double[] { 5 }, identity.evaluate(new double[] { 5 }));
+	}
+}
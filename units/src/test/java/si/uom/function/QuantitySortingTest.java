@@ -0,0 +1,128 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+public class QuantitySortingTest {
+
+	@Test
+	public void testSortMixedUnits() {
+		final Quantity<Length> nauticalMile = Quantities.getQuantity(1, NonSI.NAUTICAL_MILE);
+		final Quantity<Length> astronomicalUnit = Quantities.getQuantity(1, NonSI.ASTRONOMICAL_UNIT);
+		final Quantity<Length> angstrom = Quantities.getQuantity(5e9, NonSI.ANGSTROM);
+		final Quantity<Length> metres = Quantities.getQuantity(-2, Units.METRE);
+		final Quantity<Length> metre = Quantities.getQuantity(1, Units.METRE);
+		final List<Quantity<Length>> list = new ArrayList<>(
+				Arrays.asList(astronomicalUnit, nauticalMile, angstrom, metres, metre));
+		QuantitySorting.sort(list);
+		assertSame(metres, list.get(0));
+		assertSame(angstrom, list.get(1));
+		assertSame(metre, list.get(2));
+		assertSame(nauticalMile, list.get(3));
+		assertSame(astronomicalUnit, list.get(4));
+	}
+
+	@Test
+	public void testSortedIndicesMatchesDoubleCompare() {
+		assertSortedIndicesMatchDoubleCompare(10000);
+	}
+
+	@Test
+	public void testSortedIndicesOfFewValues() {
+		assertSortedIndicesMatchDoubleCompare(QuantitySorting.RADIX_THRESHOLD - 1);
+		assertSortedIndicesMatchDoubleCompare(4);
+		assertEquals(0, QuantitySorting.sortedIndices(new double[0]).length);
+	}
+
+	@Test
+	public void testSortIsStable() {
+		for (int n : new int[] { 8, QuantitySorting.RADIX_THRESHOLD * 2 }) {
+			final double[] values = new double[n];
+			for (int i = 0; i < n; i++) {
+				values[i] = i % 3;
+			}
+			final int[] order = QuantitySorting.sortedIndices(values);
+			for (int i = 1; i < n; i++) {
+				if (values[order[i - 1]] == values[order[i]]) {
+					assertTrue(order[i - 1] < order[i]);
+				}
+			}
+		}
+	}
+
+	private static void assertSortedIndicesMatchDoubleCompare(int n) {
+		final Random random = new Random(42);
+		final double[] values = new double[n];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+		}
+		values[0] = Double.NaN;
+		values[1] = -0d;
+		values[2] = 0d;
+		values[3] = Double.NEGATIVE_INFINITY;
+		final int[] order = QuantitySorting.sortedIndices(values);
+		final double[] sorted = new double[values.length];
+		for (int i = 0; i < order.length; i++) {
+			sorted[i] = values[order[i]];
+		}
+		final double[] expected = values.clone();
+		Arrays.sort(expected);
+		assertArrayEquals(expected, sorted);
+	}
+
+	@Test
+	public void testComparator() {
+		final Quantity<Length> nauticalMile = Quantities.getQuantity(1, NonSI.NAUTICAL_MILE);
+		final Quantity<Length> metres = Quantities.getQuantity(1852, Units.METRE);
+		assertEquals(0, QuantitySorting.<Length>comparator().compare(nauticalMile, metres));
+		assertEquals(1, QuantitySorting.<Length>comparator().compare(nauticalMile,
+				Quantities.getQuantity(1, Units.METRE)));
+		assertEquals(-1, Integer.signum(QuantitySorting.<Length>comparator()
+				.compare(Quantities.getQuantity(1, NonSI.ANGSTROM), metres)));
+	}
+}
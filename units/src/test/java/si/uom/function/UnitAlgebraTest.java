@@ -0,0 +1,89 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.function;
+
+import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import si.uom.spi.UnitCache;
+import tech.units.indriya.unit.Units;
+
+public class UnitAlgebraTest {
+
+	@Test
+	public void testRegisteredOperands() {
+		assertSame(SI.KILOGRAM_PER_CUBIC_METRE, UnitAlgebra.divide(Units.KILOGRAM, Units.CUBIC_METRE));
+		assertSame(UnitAlgebra.multiply(Units.NEWTON, Units.SECOND),
+				UnitAlgebra.multiply(Units.NEWTON, Units.SECOND));
+		assertEquals(Units.METRE_PER_SECOND.divide(Units.SECOND),
+				UnitAlgebra.divide(Units.METRE_PER_SECOND, Units.SECOND));
+	}
+
+	@Test
+	public void testPow() {
+		final Unit<?> squareAmpere = UnitAlgebra.pow(Units.AMPERE, 2);
+		assertEquals(Units.AMPERE.pow(2), squareAmpere);
+		assertSame(squareAmpere, UnitAlgebra.pow(Units.AMPERE, 2));
+		assertSame(Units.CUBIC_METRE, UnitAlgebra.pow(Units.METRE, 3));
+		assertEquals(Units.AMPERE.pow(12), UnitAlgebra.pow(Units.AMPERE, 12));
+	}
+
+	@Test
+	public void testOtherOperands() {
+		final Unit<?> millisecond = MILLI(Units.SECOND);
+		final Unit<?> result = UnitAlgebra.divide(Units.METRE, millisecond);
+		assertEquals(Units.METRE.divide(millisecond), result);
+		assertSame(result, UnitAlgebra.divide(Units.METRE, MILLI(Units.SECOND)));
+		assertSame(UnitAlgebra.pow(millisecond, 2), UnitAlgebra.pow(MILLI(Units.SECOND), 2));
+	}
+
+	@Test
+	public void testPowersOfOtherOperand() {
+		UnitCache<?> powers = null;
+		for (UnitCache<?> cache : UnitCache.getCaches()) {
+			if ("powers".equals(cache.getName())) {
+				powers = cache;
+			}
+		}
+		final Unit<?> kilosecond = UnitAlgebra.pow(MILLI(Units.SECOND).multiply(1e6), 1);
+		final int size = powers.size();
+		for (int n = -3; n <= 3; n++) {
+			assertSame(UnitAlgebra.pow(kilosecond, n), UnitAlgebra.pow(kilosecond, n));
+		}
+		assertEquals(size, powers.size());
+		assertEquals(kilosecond.pow(12), UnitAlgebra.pow(kilosecond, 12));
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import javax.measure.MetricPrefix;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Pressure;
+import javax.measure.quantity.Temperature;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.spi.RegisteredUnits;
+import tech.units.indriya.unit.Units;
+
+public class CompactQuantityTest {
+
+	@Test
+	public void testUnitId() {
+		final CompactQuantity<Pressure> pressure = CompactQuantity.of(760, NonSI.MILLIMETRE_OF_MERCURY);
+		assertSame(NonSI.MILLIMETRE_OF_MERCURY, RegisteredUnits.get(pressure.getUnitId()));
+		assertSame(NonSI.MILLIMETRE_OF_MERCURY, pressure.getUnit());
+		assertEquals(-1, RegisteredUnits.indexOf(MetricPrefix.KILO(Units.PASCAL)));
+		assertThrows(IllegalArgumentException.class, () -> CompactQuantity.of(1, MetricPrefix.KILO(Units.PASCAL)));
+	}
+
+	@Test
+	public void testConversion() {
+		final CompactQuantity<Pressure> pressure = CompactQuantity.of(760, NonSI.MILLIMETRE_OF_MERCURY);
+		// mmHg is defined as 133.322387415 Pa
+		assertEquals(760 * 133.322387415, pressure.to(Units.PASCAL).doubleValue(), 1e-9);
+		assertEquals(760 * 133.322387415, pressure.doubleValue(Units.PASCAL), 1e-9);
+		final CompactQuantity<Temperature> temperature = CompactQuantity.of(25, Units.CELSIUS);
+		assertEquals(298.15, temperature.to(Units.KELVIN).doubleValue(), 1e-9);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testIncompatible() {
+		final CompactQuantity length = CompactQuantity.of(1, Units.METRE);
+		assertThrows(UnconvertibleException.class, () -> length.to(Units.SECOND));
+	}
+
+	@Test
+	public void testArithmetic() {
+		final CompactQuantity<Length> metre = CompactQuantity.of(1, Units.METRE);
+		final Unit<Length> astronomicalUnit = NonSI.ASTRONOMICAL_UNIT;
+		final CompactQuantity<Length> sum = metre.add(CompactQuantity.of(1, astronomicalUnit));
+		assertEquals(149597871001d, sum.doubleValue(), 1);
+		assertEquals(2, metre.add(DoubleQuantities.getQuantity(1, Units.METRE)).doubleValue());
+		assertEquals(-3, metre.multiply(3).negate().doubleValue());
+		assertTrue(metre.isEquivalentTo(DoubleQuantities.getQuantity(100, MetricPrefix.CENTI(Units.METRE))));
+	}
+
+	@Test
+	public void testSerialization() {
+		final CompactQuantity<Pressure> pressure = CompactQuantity.of(760, NonSI.MILLIMETRE_OF_MERCURY);
+		final ByteBuffer buffer = ByteBuffer.allocate(CompactQuantity.BYTES);
+		pressure.writeTo(buffer);
+		buffer.flip();
+		final CompactQuantity<?> read = CompactQuantity.readFrom(buffer);
+		assertEquals(pressure, read);
+		assertEquals(pressure.hashCode(), read.hashCode());
+		assertNotEquals(pressure, pressure.negate());
+		assertThrows(IllegalArgumentException.class, () -> CompactQuantity.of(-1, 0));
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import si.uom.quantity.Density;
+import si.uom.quantity.Impulse;
+import si.uom.quantity.MassFlowRate;
+import si.uom.quantity.Momentum;
+import si.uom.quantity.Torque;
+import tech.units.indriya.unit.Units;
+
+public class DoubleQuantitiesTest {
+
+	private static final Unit<MassFlowRate> GRAM_PER_SECOND = Units.GRAM.divide(Units.SECOND)
+			.asType(MassFlowRate.class);
+
+	@Test
+	public void testOf() {
+		final DoubleMassFlowRate rate = DoubleMassFlowRate.of(2.5, SI.KILOGRAM_PER_SECOND);
+		assertEquals(2.5, rate.doubleValue());
+		assertEquals(Double.valueOf(2.5), rate.getValue());
+		assertSame(SI.KILOGRAM_PER_SECOND, rate.getUnit());
+		assertSame(Quantity.Scale.ABSOLUTE, rate.getScale());
+	}
+
+	@Test
+	public void testArithmetic() {
+		final DoubleMassFlowRate rate = DoubleMassFlowRate.of(2, SI.KILOGRAM_PER_SECOND);
+		final DoubleMassFlowRate result = rate.add(DoubleMassFlowRate.of(500, GRAM_PER_SECOND)).multiply(2d)
+				.subtract(1d).divide(2);
+		assertEquals(2, result.doubleValue(), 1e-12);
+		assertSame(SI.KILOGRAM_PER_SECOND, result.getUnit());
+		assertEquals(-2, rate.negate().doubleValue());
+	}
+
+	@Test
+	public void testTo() {
+		final DoubleMassFlowRate rate = DoubleMassFlowRate.of(1.5, SI.KILOGRAM_PER_SECOND);
+		assertSame(rate, rate.to(SI.KILOGRAM_PER_SECOND));
+		final DoubleMassFlowRate converted = rate.to(GRAM_PER_SECOND);
+		assertEquals(1500, converted.doubleValue(), 1e-9);
+		assertEquals(1500, rate.doubleValue(GRAM_PER_SECOND), 1e-9);
+		assertTrue(rate.isEquivalentTo(converted));
+		assertEquals(0, rate.compareTo(converted));
+	}
+
+	@Test
+	public void testMultiplyQuantity() {
+		final Quantity<?> impulse = DoubleMassFlowRate.of(3, SI.KILOGRAM_PER_SECOND)
+				.multiply(DoubleQuantities.getQuantity(2, Units.METRE));
+		assertEquals(6d, impulse.getValue().doubleValue());
+		final Quantity<Impulse> typed = impulse.asType(Impulse.class);
+		assertTrue(typed instanceof DoubleImpulse);
+		assertTrue(typed.getUnit().isEquivalentTo(SI.NEWTON_SECOND));
+	}
+
+	@Test
+	public void testGetQuantityWithType() {
+		final Unit<Torque> newtonMetre = Units.NEWTON.multiply(Units.METRE).asType(Torque.class);
+		assertTrue(DoubleQuantities.getQuantity(1, newtonMetre, Torque.class) instanceof DoubleTorque);
+		assertTrue(DoubleQuantities.getQuantity(1, Units.METRE) instanceof DefaultDoubleQuantity);
+	}
+
+	@Test
+	public void testEqualsAndHashCode() {
+		final DoubleMassFlowRate a = DoubleMassFlowRate.of(1, SI.KILOGRAM_PER_SECOND);
+		final DoubleMassFlowRate b = DoubleMassFlowRate.of(1, SI.KILOGRAM_PER_SECOND);
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals("1.0 kg/s", a.toString());
+	}
+
+	@Test
+	public void testValueOfSharesSmallIntegers() {
+		assertSame(DoubleQuantities.valueOf(0, SI.RADIAN_PER_SECOND), DoubleQuantities.valueOf(0, SI.RADIAN_PER_SECOND));
+		assertSame(DoubleQuantities.valueOf(1, SI.KILOGRAM_PER_CUBIC_METRE),
+				DoubleQuantities.valueOf(1d, SI.KILOGRAM_PER_CUBIC_METRE));
+		assertSame(DoubleQuantities.valueOf(-128, Units.METRE), DoubleQuantities.valueOf(-128, Units.METRE));
+		assertEquals(1d, DoubleQuantities.valueOf(1, SI.KILOGRAM_PER_CUBIC_METRE).doubleValue());
+		assertSame(SI.KILOGRAM_PER_CUBIC_METRE, DoubleQuantities.valueOf(1, SI.KILOGRAM_PER_CUBIC_METRE).getUnit());
+	}
+
+	@Test
+	public void testValueOfKeepsQuantityType() {
+		assertTrue(DoubleQuantities.valueOf(1, SI.KILOGRAM_PER_CUBIC_METRE) instanceof Density);
+		assertTrue(DoubleQuantities.valueOf(2, SI.NEWTON_SECOND) instanceof Impulse);
+		assertTrue(DoubleQuantities.valueOf(2, SI.KILOGRAM_METRE_PER_SECOND) instanceof Momentum);
+	}
+
+	@Test
+	public void testValueOfCreatesOtherValues() {
+		assertNotSame(DoubleQuantities.valueOf(0.5, Units.METRE), DoubleQuantities.valueOf(0.5, Units.METRE));
+		assertNotSame(DoubleQuantities.valueOf(128, Units.METRE), DoubleQuantities.valueOf(128, Units.METRE));
+		assertNotSame(DoubleQuantities.valueOf(-0d, Units.METRE), DoubleQuantities.valueOf(-0d, Units.METRE));
+		assertEquals(-0d, DoubleQuantities.valueOf(-0d, Units.METRE).doubleValue());
+		assertNotSame(DoubleQuantities.valueOf(1, GRAM_PER_SECOND), DoubleQuantities.valueOf(1, GRAM_PER_SECOND));
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import static javax.measure.MetricPrefix.CENTI;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.measure.UnconvertibleException;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Volume;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import si.uom.quantity.Density;
+import tech.units.indriya.unit.Units;
+
+public class QuantityArrayTest {
+
+	@Test
+	public void testTo() {
+		final QuantityArray<Mass> grams = QuantityArray.of(Units.GRAM, 1500, 250);
+		assertSame(grams, grams.to(Units.GRAM));
+		assertArrayEquals(new double[] { 1.5, 0.25 }, grams.to(Units.KILOGRAM).toDoubleArray(), 1e-12);
+		assertArrayEquals(new double[] { 1500, 250 }, grams.toDoubleArray());
+	}
+
+	@Test
+	public void testSlice() {
+		final double[] values = { 1, 2, 3, 4, 5 };
+		final QuantityArray<Length> slice = QuantityArray.wrap(Units.METRE, values).slice(1, 4).slice(1, 3);
+		assertEquals(2, slice.size());
+		assertEquals(3, slice.doubleValue(0));
+		assertEquals(4, slice.get(1).getValue().doubleValue());
+		assertThrows(IndexOutOfBoundsException.class, () -> slice.doubleValue(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> slice.slice(1, 3));
+	}
+
+	@Test
+	public void testAdd() {
+		final QuantityArray<Length> metres = QuantityArray.of(Units.METRE, 1, 2, 3, 4).slice(1, 3);
+		final QuantityArray<Length> centimetres = QuantityArray.of(CENTI(Units.METRE), 50, 25);
+		final QuantityArray<Length> sum = metres.add(centimetres);
+		assertSame(Units.METRE, sum.getUnit());
+		assertArrayEquals(new double[] { 2.5, 3.25 }, sum.toDoubleArray(), 1e-12);
+		assertArrayEquals(new double[] { 4, 6 }, metres.add(metres).toDoubleArray());
+		assertThrows(IllegalArgumentException.class, () -> metres.add(QuantityArray.of(Units.METRE, 1)));
+	}
+
+	@Test
+	public void testMultiply() {
+		final QuantityArray<Length> metres = QuantityArray.of(Units.METRE, 2, 3);
+		assertArrayEquals(new double[] { 4, 6 }, metres.multiply(2).toDoubleArray());
+		assertArrayEquals(new double[] { 4, 9 }, metres.multiply(metres).toDoubleArray());
+		assertEquals(Units.SQUARE_METRE.getDimension(), metres.multiply(metres).getUnit().getDimension());
+	}
+
+	@Test
+	public void testDivideTyped() {
+		final QuantityArray<Mass> mass = QuantityArray.of(Units.GRAM, 1000, 500);
+		final QuantityArray<Volume> volume = QuantityArray.of(Units.LITRE, 1, 2);
+		final QuantityArray<Density> density = mass.divide(volume, SI.KILOGRAM_PER_CUBIC_METRE);
+		assertSame(SI.KILOGRAM_PER_CUBIC_METRE, density.getUnit());
+		assertArrayEquals(new double[] { 1000, 250 }, density.toDoubleArray(), 1e-9);
+		assertThrows(UnconvertibleException.class, () -> mass.divide(volume, SI.KILOGRAM_PER_SQUARE_METRE));
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.quantities;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import javax.measure.UnconvertibleException;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Pressure;
+import javax.measure.quantity.Temperature;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import si.uom.format.CachedUnitFormat;
+import tech.units.indriya.unit.Units;
+
+public class QuantityBufferTest {
+
+	@Test
+	public void testAddAndGet() {
+		final QuantityBuffer<Pressure> buffer = QuantityBuffer.allocate(Units.PASCAL, 4);
+		assertTrue(buffer.getBuffer().isDirect());
+		assertEquals(4, buffer.capacity());
+		buffer.add(1);
+		buffer.add(new double[] { 2, 3 }, 0, 2);
+		buffer.set(0, 0.5);
+		assertEquals(3, buffer.size());
+		assertArrayEquals(new double[] { 0.5, 2, 3 }, buffer.toQuantityArray().toDoubleArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.doubleValue(3));
+		buffer.add(4);
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.add(5));
+	}
+
+	@Test
+	public void testConvertInPlace() {
+		final QuantityBuffer<Pressure> buffer = QuantityBuffer.allocate(NonSI.MILLIMETRE_OF_MERCURY, 2);
+		buffer.add(new double[] { 1, 2 }, 0, 2);
+		buffer.to(Units.PASCAL);
+		assertEquals(Units.PASCAL, buffer.getUnit());
+		assertEquals(133.322387415, buffer.doubleValue(0), 1e-9);
+		assertEquals(266.64477483, buffer.doubleValue(1), 1e-9);
+	}
+
+	@Test
+	public void testConvertAffineInPlace() {
+		final QuantityBuffer<Temperature> buffer = QuantityBuffer.allocate(Units.CELSIUS, 1);
+		buffer.add(25);
+		buffer.to(Units.KELVIN);
+		assertEquals(298.15, buffer.doubleValue(0), 1e-9);
+	}
+
+	@Test
+	public void testWrap() {
+		final QuantityBuffer<Pressure> buffer = QuantityBuffer.allocate(KILO(Units.PASCAL), 8);
+		buffer.add(new double[] { 1, 2 }, 0, 2);
+		final ByteBuffer copy = ByteBuffer.allocate(buffer.getBuffer().remaining());
+		copy.put(buffer.getBuffer()).flip();
+		final QuantityBuffer<Pressure> read = QuantityBuffer.wrap(copy, Units.PASCAL);
+		assertEquals(KILO(Units.PASCAL), read.getUnit());
+		assertEquals(2, read.size());
+		assertEquals(2, read.doubleValue(1));
+		assertThrows(UnconvertibleException.class, () -> QuantityBuffer.wrap(copy, SI.KILOGRAM_PER_SECOND));
+		assertThrows(MeasurementParseException.class, () -> QuantityBuffer.wrap(ByteBuffer.allocate(64)));
+	}
+
+	@Test
+	public void testMagicBytes() {
+		final ByteBuffer memory = QuantityBuffer.allocate(Units.PASCAL, 1).getBuffer();
+		assertEquals('S', memory.get(0));
+		assertEquals('I', memory.get(1));
+		assertEquals('Q', memory.get(2));
+		assertEquals('B', memory.get(3));
+	}
+
+	@Test
+	public void testWrapAmbiguousSymbol() {
+		// "u" is also the symbol of another registered unit of atomic mass
+		final CachedUnitFormat format = CachedUnitFormat.getInstance();
+		assertEquals("u", format.format(NonSI.UNIFIED_ATOMIC_MASS));
+		assertNotEquals(NonSI.UNIFIED_ATOMIC_MASS, format.parse("u"));
+		final QuantityBuffer<Mass> buffer = QuantityBuffer.allocate(NonSI.UNIFIED_ATOMIC_MASS, 1);
+		buffer.add(12);
+		final QuantityBuffer<Mass> read = QuantityBuffer.wrap(buffer.getBuffer(), Units.KILOGRAM);
+		assertSame(NonSI.UNIFIED_ATOMIC_MASS, read.getUnit());
+		assertEquals(12, read.doubleValue(0));
+	}
+}
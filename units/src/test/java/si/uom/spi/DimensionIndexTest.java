@@ -0,0 +1,79 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import tech.units.indriya.unit.UnitDimension;
+import tech.units.indriya.unit.Units;
+
+public class DimensionIndexTest {
+
+	@Test
+	public void testLength() {
+		final List<Unit<Length>> units = DimensionIndex.getCompatibleUnits(Units.METRE);
+		assertTrue(units.containsAll(Arrays.asList(Units.METRE, NonSI.ANGSTROM, NonSI.NAUTICAL_MILE,
+				NonSI.ASTRONOMICAL_UNIT, NonSI.LIGHT_YEAR, NonSI.PARSEC, NonSI.BOHR_RADIUS)));
+		assertFalse(units.contains(Units.SECOND));
+		assertEquals(units, DimensionIndex.getUnits(UnitDimension.LENGTH));
+	}
+
+	@Test
+	public void testMatchesCompatibility() {
+		for (Unit<?> unit : RegisteredUnits.getUnits()) {
+			for (Unit<?> other : DimensionIndex.getUnits(unit.getDimension())) {
+				assertTrue(unit.isCompatible(other), unit + " / " + other);
+			}
+		}
+	}
+
+	@Test
+	public void testPack() {
+		assertEquals(1L, DimensionIndex.pack(UnitDimension.LENGTH));
+		assertEquals(DimensionIndex.pack(SI.KILOGRAM_PER_CUBIC_METRE.getDimension()),
+				DimensionIndex.pack(UnitDimension.MASS.divide(UnitDimension.LENGTH.pow(3))));
+		assertNotEquals(DimensionIndex.pack(UnitDimension.LENGTH),
+				DimensionIndex.pack(UnitDimension.LENGTH.pow(-1)));
+		assertTrue(DimensionIndex.getUnits(Units.METRE.pow(7).getDimension()).isEmpty());
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MEGA;
+import static javax.measure.MetricPrefix.MICRO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Mass;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import si.uom.format.CachedUnitFormat;
+import si.uom.quantity.MassFlowRate;
+import tech.units.indriya.unit.Units;
+
+public class PrefixedUnitsTest {
+
+	@Test
+	public void testSharedInstances() {
+		final Unit<Mass> megatonne = PrefixedUnits.get(NonSI.TONNE, MEGA);
+		assertEquals(MEGA(NonSI.TONNE), megatonne);
+		assertSame(megatonne, PrefixedUnits.get(NonSI.TONNE, MEGA));
+		final Unit<MassFlowRate> kiloKgPerSecond = PrefixedUnits.get(SI.KILOGRAM_PER_SECOND, KILO);
+		assertSame(kiloKgPerSecond, PrefixedUnits.get(SI.KILOGRAM_PER_SECOND, KILO));
+		assertEquals(KILO(SI.KILOGRAM_PER_SECOND), kiloKgPerSecond);
+	}
+
+	@Test
+	public void testNotRegistered() {
+		final Unit<?> unit = Units.METRE.multiply(Units.AMPERE);
+		assertNotSame(PrefixedUnits.get(unit, KILO), PrefixedUnits.get(unit, KILO));
+	}
+
+	@Test
+	public void testLabels() {
+		assertEquals("Mt", PrefixedUnits.getLabel(NonSI.TONNE, MEGA));
+		assertEquals("km", PrefixedUnits.getLabel(Units.METRE, KILO));
+		assertEquals("µm", PrefixedUnits.getLabel(Units.METRE, MICRO));
+		assertEquals(CachedUnitFormat.getInstance().format(KILO(Units.KILOMETRE_PER_HOUR)),
+				PrefixedUnits.getLabel(Units.KILOMETRE_PER_HOUR, KILO));
+	}
+
+	@Test
+	public void testLabelsRegistered() {
+		final Unit<?> unit = PrefixedUnits.get(SI.SIEMENS_PER_METRE, MICRO);
+		assertEquals("µS/m", PrefixedUnits.getLabel(SI.SIEMENS_PER_METRE, MICRO));
+		assertEquals("µS/m", CachedUnitFormat.getInstance().format(unit));
+		assertEquals(unit, CachedUnitFormat.getInstance().parse("µS/m"));
+	}
+
+	@Test
+	public void testConverters() {
+		assertEquals(1e6, PrefixedUnits.getConverter(NonSI.TONNE, MEGA).convert(1), 1e-6);
+		assertEquals(1e-6, PrefixedUnits.getConverter(Units.METRE, MICRO).convert(1), 1e-20);
+		assertSame(PrefixedUnits.getConverter(Units.METRE, KILO), PrefixedUnits.getConverter(Units.METRE, KILO));
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Energy;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import si.uom.quantity.Density;
+import si.uom.quantity.Impulse;
+import si.uom.quantity.Luminance;
+import si.uom.quantity.Momentum;
+import si.uom.quantity.Torque;
+import tech.units.indriya.unit.Units;
+
+public class QuantityTypeRegistryTest {
+
+	@Test
+	public void testSystemUnit() {
+		assertEquals(SI.KILOGRAM_PER_CUBIC_METRE, QuantityTypeRegistry.getSystemUnit(Density.class));
+		assertEquals(SI.CANDELA_PER_SQUARE_METRE, QuantityTypeRegistry.getSystemUnit(Luminance.class));
+		assertEquals(Units.METRE, QuantityTypeRegistry.getSystemUnit(Length.class));
+		assertEquals(Units.NEWTON.multiply(Units.METRE), QuantityTypeRegistry.getSystemUnit(Torque.class));
+	}
+
+	@Test
+	public void testDimension() {
+		assertEquals(SI.KILOGRAM_PER_CUBIC_METRE.getDimension(), QuantityTypeRegistry.getDimension(Density.class));
+	}
+
+	@Test
+	public void testRelatedTypes() {
+		assertTrue(QuantityTypeRegistry.get(Impulse.class).getRelatedTypes().contains(Momentum.class));
+		assertTrue(QuantityTypeRegistry.get(Torque.class).getRelatedTypes().contains(Energy.class));
+		assertFalse(QuantityTypeRegistry.get(Torque.class).getRelatedTypes().contains(Torque.class));
+	}
+
+	@Test
+	public void testTypesOfUnit() {
+		final List<Class<? extends Quantity<?>>> types = QuantityTypeRegistry.getTypes(SI.NEWTON_SECOND);
+		assertEquals(2, types.size());
+		assertEquals(Impulse.class, types.get(0));
+		assertEquals(Momentum.class, types.get(1));
+		assertEquals(types, QuantityTypeRegistry.getTypes(Units.NEWTON.multiply(Units.SECOND)));
+		assertTrue(QuantityTypeRegistry.getTypes(Units.KILOGRAM.divide(Units.METRE).divide(Units.METRE)
+				.divide(Units.METRE)).contains(Density.class));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import si.uom.spi.UnitCache.References;
+import tech.units.indriya.unit.Units;
+
+public class UnitCacheTest {
+
+	@Test
+	public void testGetPut() {
+		final UnitCache<String> cache = UnitCache.create("test.strong", 16, References.STRONG);
+		final Unit<?> unit = SI.OHM_METRE.multiply(3);
+		assertNull(cache.get(unit));
+		cache.put(unit, "3 Ω·m");
+		assertEquals("3 Ω·m", cache.get(SI.OHM_METRE.multiply(3)));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals("3 Ω·m", cache.putIfAbsent(unit, "other"));
+		cache.put(unit, "three");
+		assertEquals("three", cache.get(unit));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testTwoKeys() {
+		final UnitCache<Unit<?>> cache = UnitCache.create("test.pairs", 16, References.STRONG);
+		final Unit<?> left = SI.OHM_METRE.multiply(2);
+		final Unit<?> product = left.multiply(Units.AMPERE);
+		cache.put(left, Units.AMPERE, product);
+		assertSame(product, cache.get(left, Units.AMPERE));
+		assertNull(cache.get(left, Units.VOLT));
+		assertNull(cache.get(left));
+	}
+
+	@Test
+	public void testEviction() {
+		final UnitCache<String> cache = UnitCache.create("test.evict", 4, References.STRONG);
+		final Unit<?>[] units = new Unit<?>[5];
+		for (int i = 0; i < units.length; i++) {
+			units[i] = Units.METRE.multiply(i + 2);
+			cache.put(units[i], String.valueOf(i));
+		}
+		assertEquals(4, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+		assertNull(cache.get(units[0]));
+		assertEquals("1", cache.get(units[1]));
+		assertEquals("4", cache.get(units[4]));
+		assertEquals(4L * UnitCache.ENTRY_BYTES, cache.getEstimatedBytes());
+	}
+
+	@Test
+	public void testDisabled() {
+		final UnitCache<String> cache = UnitCache.create("test.disabled", 0, References.SOFT);
+		cache.put(Units.METRE.multiply(2), "2 m");
+		assertNull(cache.get(Units.METRE.multiply(2)));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testConfiguration() {
+		System.setProperty(UnitCache.PROPERTY_PREFIX + "test.configured.size", "7");
+		System.setProperty(UnitCache.PROPERTY_PREFIX + "test.configured.references", "weak");
+		try {
+			final UnitCache<String> cache = UnitCache.create("test.configured", 16, References.SOFT);
+			assertEquals(7, cache.getMaximumSize());
+			assertEquals(References.WEAK, cache.getReferences());
+			assertTrue(UnitCache.getCaches().contains(cache));
+		} finally {
+			System.clearProperty(UnitCache.PROPERTY_PREFIX + "test.configured.size");
+			System.clearProperty(UnitCache.PROPERTY_PREFIX + "test.configured.references");
+		}
+		System.setProperty(UnitCache.PROPERTY_PREFIX + "test.invalid.size", "-1");
+		try {
+			assertThrows(IllegalArgumentException.class,
+					() -> UnitCache.create("test.invalid", 16, References.SOFT));
+		} finally {
+			System.clearProperty(UnitCache.PROPERTY_PREFIX + "test.invalid.size");
+		}
+	}
+
+	@Test
+	public void testLibraryCaches() {
+		UnitInterner.intern(SI.OHM_METRE.divide(Units.SECOND));
+		boolean found = false;
+		for (UnitCache<?> cache : UnitCache.getCaches()) {
+			if ("interned".equals(cache.getName())) {
+				found = true;
+				assertEquals(References.WEAK, cache.getReferences());
+			}
+		}
+		assertTrue(found);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.SI;
+import tech.units.indriya.unit.Units;
+
+public class UnitInternerTest {
+
+	@Test
+	public void testRegisteredInstance() {
+		final Unit<?> density = Units.KILOGRAM.divide(Units.CUBIC_METRE);
+		assertNotSame(SI.KILOGRAM_PER_CUBIC_METRE, density);
+		assertEquals(SI.KILOGRAM_PER_CUBIC_METRE, density);
+		assertSame(SI.KILOGRAM_PER_CUBIC_METRE, UnitInterner.intern(density));
+		assertFalse(UnitInterner.isCanonical(density));
+		assertTrue(UnitInterner.isCanonical(SI.KILOGRAM_PER_CUBIC_METRE));
+	}
+
+	@Test
+	public void testInternedInstance() {
+		final Unit<?> first = Units.AMPERE.multiply(Units.KELVIN).divide(Units.CANDELA);
+		final Unit<?> second = Units.AMPERE.multiply(Units.KELVIN).divide(Units.CANDELA);
+		assertNotSame(first, second);
+		final Unit<?> interned = UnitInterner.intern(first);
+		assertSame(interned, UnitInterner.intern(second));
+		assertTrue(UnitInterner.isCanonical(interned));
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+import si.uom.SI;
+import tech.units.indriya.unit.Units;
+
+public class UnitMapTest {
+
+	@Test
+	public void testPutGetRemove() {
+		final UnitMap<String> map = new UnitMap<>();
+		final Unit<?> other = Units.METRE.multiply(7);
+		assertNull(map.put(SI.NEWTON_SECOND, "impulse"));
+		assertNull(map.put(other, "seven metres"));
+		assertEquals("impulse", map.put(SI.NEWTON_SECOND, "momentum"));
+		assertEquals(2, map.size());
+		assertEquals("momentum", map.get(Units.NEWTON.multiply(Units.SECOND)));
+		assertEquals("seven metres", map.get(Units.METRE.multiply(7)));
+		assertTrue(map.containsKey(other));
+		assertFalse(map.containsKey(NonSI.ELECTRON_VOLT));
+		assertNull(map.get("N·s"));
+		assertEquals("momentum", map.remove(SI.NEWTON_SECOND));
+		assertEquals(1, map.size());
+		assertThrows(NullPointerException.class, () -> map.put(Units.METRE, null));
+	}
+
+	@Test
+	public void testEqualsHashMap() {
+		final Map<Unit<?>, Integer> expected = new HashMap<>();
+		expected.put(Units.METRE, 1);
+		expected.put(NonSI.ELECTRON_VOLT, 2);
+		expected.put(Units.SECOND.multiply(3), 3);
+		final UnitMap<Integer> map = new UnitMap<>(expected);
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final UnitMap<Integer> map = new UnitMap<>();
+		map.put(Units.METRE, 1);
+		map.put(Units.SECOND, 2);
+		map.put(Units.SECOND.multiply(3), 3);
+		final Iterator<Map.Entry<Unit<?>, Integer>> iterator = map.entrySet().iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			count++;
+		}
+		assertEquals(3, count);
+		assertTrue(map.isEmpty());
+		assertThrows(IllegalStateException.class, iterator::remove);
+	}
+
+	@Test
+	public void testRegisteredEquality() {
+		assertTrue(RegisteredUnits.equals(SI.NEWTON_SECOND, Units.NEWTON.multiply(Units.SECOND)));
+		assertFalse(RegisteredUnits.equals(SI.NEWTON_SECOND, SI.KILOGRAM_METRE_PER_SECOND));
+		assertEquals(SI.NEWTON_SECOND.hashCode(), RegisteredUnits.hashCode(SI.NEWTON_SECOND));
+		assertEquals(0, RegisteredUnits.hashCode(null));
+	}
+}
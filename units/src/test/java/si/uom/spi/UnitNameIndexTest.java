@@ -0,0 +1,69 @@
+/*
+ * International System of Units (SI)
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of SI System, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package si.uom.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import si.uom.NonSI;
+
+public class UnitNameIndexTest {
+
+	@Test
+	public void testFind() {
+		assertTrue(UnitNameIndex.find("Electron Volt").contains(NonSI.ELECTRON_VOLT));
+		assertTrue(UnitNameIndex.find("eV").contains(NonSI.ELECTRON_VOLT));
+		assertTrue(UnitNameIndex.find("electron volt").isEmpty());
+		assertTrue(UnitNameIndex.find("nmi").contains(NonSI.NAUTICAL_MILE));
+	}
+
+	@Test
+	public void testFindIgnoreCase() {
+		assertTrue(UnitNameIndex.findIgnoreCase("electron volt").contains(NonSI.ELECTRON_VOLT));
+		assertTrue(UnitNameIndex.findIgnoreCase("NAUTICAL MILE").contains(NonSI.NAUTICAL_MILE));
+	}
+
+	@Test
+	public void testComplete() {
+		assertTrue(UnitNameIndex.complete("Electr", 100).contains(NonSI.ELECTRON_VOLT));
+		assertTrue(UnitNameIndex.complete("naut", 100).contains(NonSI.NAUTICAL_MILE));
+		// words within names
+		assertTrue(UnitNameIndex.complete("mile", 100).contains(NonSI.NAUTICAL_MILE));
+		final List<Unit<?>> limited = UnitNameIndex.complete("", 3);
+		assertEquals(3, limited.size());
+		assertTrue(UnitNameIndex.complete("zzzz", 10).isEmpty());
+	}
+}